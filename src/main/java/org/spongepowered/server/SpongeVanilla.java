@@ -48,6 +48,7 @@
 import org.spongepowered.api.event.game.state.GamePreInitializationEvent;
 import org.spongepowered.api.event.game.state.GameStartedServerEvent;
 import org.spongepowered.api.event.game.state.GameStartingServerEvent;
+import org.spongepowered.api.event.game.state.GameStateEvent;
 import org.spongepowered.api.event.game.state.GameStoppedServerEvent;
 import org.spongepowered.api.event.game.state.GameStoppingServerEvent;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -69,6 +70,7 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 import org.spongepowered.server.guice.VanillaGuiceModule;
+import org.spongepowered.server.launch.StartupTrace;
 import org.spongepowered.server.launch.VanillaCommandLine;
 import org.spongepowered.server.plugin.VanillaPluginManager;
 
@@ -92,7 +94,9 @@ private SpongeVanilla() {
         // in-depth explanation
         NetHandlerPlayServer.class.getName();
 
-        Guice.createInjector(new VanillaGuiceModule(this, LogManager.getLogger(SpongeImpl.ECOSYSTEM_NAME))).getInstance(SpongeImpl.class);
+        try (StartupTrace.Section ignored = StartupTrace.start("bootstrap")) {
+            Guice.createInjector(new VanillaGuiceModule(this, LogManager.getLogger(SpongeImpl.ECOSYSTEM_NAME))).getInstance(SpongeImpl.class);
+        }
 
         this.game = SpongeImpl.getGame();
 
@@ -132,62 +136,75 @@ public static void main(String[] args) {
 
     public void preInitialize() throws Exception {
         SpongeImpl.getLogger().info("Loading Sponge...");
+        try (StartupTrace.Section ignored = StartupTrace.start("pre-initialization")) {
+            this.game.getEventManager().registerListeners(this, SpongeInternalListeners.getInstance());
 
-        this.game.getEventManager().registerListeners(this, SpongeInternalListeners.getInstance());
+            preInitializeRegistry();
+            loadPlugins();
+            postState(GameConstructionEvent.class, GameState.CONSTRUCTION);
+            SpongeImpl.getLogger().info("Initializing plugins...");
+            postState(GamePreInitializationEvent.class, GameState.PRE_INITIALIZATION);
 
-        // Pre-initialize registry
-        this.game.getRegistry().preRegistryInit();
-        SpongeBootstrap.initializeServices();
-        SpongeBootstrap.initializeCommands();
-        SpongeImpl.getRegistry().preInit();
+            checkState(Class.forName("org.spongepowered.api.entity.ai.task.AbstractAITask").getSuperclass()
+                    .equals(SpongeEntityAICommonSuperclass.class));
 
-        SpongeImpl.getLogger().info("Loading plugins...");
-        ((VanillaPluginManager) this.game.getPluginManager()).loadPlugins();
-        SpongeImpl.postState(GameConstructionEvent.class, GameState.CONSTRUCTION);
-        SpongeImpl.getLogger().info("Initializing plugins...");
-        SpongeImpl.postState(GamePreInitializationEvent.class, GameState.PRE_INITIALIZATION);
+            SpongeInternalListeners.getInstance().registerServiceCallback(PermissionService.class,
+                    input -> input.registerContextCalculator(new SpongeContextCalculator()));
 
-        checkState(Class.forName("org.spongepowered.api.entity.ai.task.AbstractAITask").getSuperclass()
-                .equals(SpongeEntityAICommonSuperclass.class));
+            SpongeHooks.enableThreadContentionMonitoring();
 
-        SpongeInternalListeners.getInstance().registerServiceCallback(PermissionService.class,
-                input -> input.registerContextCalculator(new SpongeContextCalculator()));
+            SpongeMessageHandler.init();
+        }
+    }
 
-        SpongeHooks.enableThreadContentionMonitoring();
+    private void preInitializeRegistry() {
+        try (StartupTrace.Section ignored = StartupTrace.start("registry")) {
+            this.game.getRegistry().preRegistryInit();
+            SpongeBootstrap.initializeServices();
+            SpongeBootstrap.initializeCommands();
+            SpongeImpl.getRegistry().preInit();
+        }
+    }
 
-        SpongeMessageHandler.init();
+    private void loadPlugins() throws IOException {
+        SpongeImpl.getLogger().info("Loading plugins...");
+        try (StartupTrace.Section ignored = StartupTrace.start("plugins")) {
+            ((VanillaPluginManager) this.game.getPluginManager()).loadPlugins();
+        }
     }
 
     public void initialize() {
-        SpongeImpl.getRegistry().init();
-
-        if (!this.game.getServiceManager().provide(PermissionService.class).isPresent()) {
-            SpongePermissionService service = new SpongePermissionService(this.game);
-            // Setup default permissions
-            service.getGroupForOpLevel(1).getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.selector", Tristate.TRUE);
-            service.getGroupForOpLevel(2).getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.commandblock", Tristate.TRUE);
-            this.game.getServiceManager().setProvider(this, PermissionService.class, service);
-        }
+        try (StartupTrace.Section ignored = StartupTrace.start("initialization")) {
+            SpongeImpl.getRegistry().init();
+
+            if (!this.game.getServiceManager().provide(PermissionService.class).isPresent()) {
+                SpongePermissionService service = new SpongePermissionService(this.game);
+                // Setup default permissions
+                service.getGroupForOpLevel(1).getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.selector", Tristate.TRUE);
+                service.getGroupForOpLevel(2).getSubjectData().setPermission(SubjectData.GLOBAL_CONTEXT, "minecraft.commandblock", Tristate.TRUE);
+                this.game.getServiceManager().setProvider(this, PermissionService.class, service);
+            }
 
-        SpongeImpl.postState(GameInitializationEvent.class, GameState.INITIALIZATION);
+            postState(GameInitializationEvent.class, GameState.INITIALIZATION);
 
-        SpongeImpl.getRegistry().postInit();
+            SpongeImpl.getRegistry().postInit();
 
-        SpongeImpl.postState(GamePostInitializationEvent.class, GameState.POST_INITIALIZATION);
+            postState(GamePostInitializationEvent.class, GameState.POST_INITIALIZATION);
 
-        SpongeImpl.getLogger().info("Successfully loaded and initialized plugins.");
+            SpongeImpl.getLogger().info("Successfully loaded and initialized plugins.");
 
-        SpongeImpl.postState(GameLoadCompleteEvent.class, GameState.LOAD_COMPLETE);
+            postState(GameLoadCompleteEvent.class, GameState.LOAD_COMPLETE);
+        }
     }
 
     public void onServerAboutToStart() {
         ((IMixinServerCommandManager) MinecraftServer.getServer().getCommandManager()).registerEarlyCommands(this.game);
-        SpongeImpl.postState(GameAboutToStartServerEvent.class, GameState.SERVER_ABOUT_TO_START);
+        postState(GameAboutToStartServerEvent.class, GameState.SERVER_ABOUT_TO_START);
     }
 
     public void onServerStarting() {
-        SpongeImpl.postState(GameStartingServerEvent.class, GameState.SERVER_STARTING);
-        SpongeImpl.postState(GameStartedServerEvent.class, GameState.SERVER_STARTED);
+        postState(GameStartingServerEvent.class, GameState.SERVER_STARTING);
+        postState(GameStartedServerEvent.class, GameState.SERVER_STARTED);
         ((IMixinServerCommandManager) MinecraftServer.getServer().getCommandManager()).registerLowPriorityCommands(this.game);
         SpongePlayerDataHandler.init();
     }
@@ -201,6 +218,12 @@ public void onServerStopped() throws IOException {
         ((SqlServiceImpl) this.game.getServiceManager().provideUnchecked(SqlService.class)).close();
     }
 
+    private static void postState(Class<? extends GameStateEvent> type, GameState state) {
+        try (StartupTrace.Section ignored = StartupTrace.start(state.name())) {
+            SpongeImpl.postState(type, state);
+        }
+    }
+
     @Override
     public String getId() {
         return SpongeImpl.ECOSYSTEM_ID;
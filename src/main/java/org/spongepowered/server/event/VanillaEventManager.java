@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.event;
+
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.event.SpongeEventManager;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Singleton
+public class VanillaEventManager extends SpongeEventManager {
+
+    // All event types listeners were registered for. Unregistering listeners
+    // does not remove them, so hasListeners may return false positives.
+    private final Set<Class<?>> listenedTypes = Sets.newConcurrentHashSet();
+    private final Map<Class<?>, Boolean> listenerCache = new ConcurrentHashMap<>();
+
+    @Inject
+    public VanillaEventManager(PluginManager pluginManager) {
+        super(pluginManager);
+    }
+
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        // Computed atomically, so a new listener type can't be overwritten with an outdated result
+        return this.listenerCache.computeIfAbsent(eventClass, this::computeHasListeners);
+    }
+
+    private boolean computeHasListeners(Class<?> eventClass) {
+        for (Class<?> type : this.listenedTypes) {
+            if (type.isAssignableFrom(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addListenedType(Class<?> type) {
+        if (this.listenedTypes.add(type)) {
+            this.listenerCache.clear();
+        }
+    }
+
+    private void addListenedTypes(Class<?> listenerClass) {
+        for (Method method : listenerClass.getMethods()) {
+            addListenedType(method);
+        }
+
+        for (Class<?> current = listenerClass; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                addListenedType(method);
+            }
+        }
+    }
+
+    private void addListenedType(Method method) {
+        if (method.isAnnotationPresent(Listener.class) && method.getParameterCount() > 0) {
+            addListenedType(method.getParameterTypes()[0]);
+        }
+    }
+
+    @Override
+    public void registerListeners(Object plugin, Object listener) {
+        addListenedTypes(listener.getClass());
+        super.registerListeners(plugin, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        addListenedType(eventClass);
+        super.registerListener(plugin, eventClass, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        addListenedType(eventClass);
+        super.registerListener(plugin, eventClass, order, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        addListenedType(eventClass);
+        super.registerListener(plugin, eventClass, order, beforeModifications, listener);
+    }
+
+}
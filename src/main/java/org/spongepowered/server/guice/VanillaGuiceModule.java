@@ -43,7 +43,6 @@
 import org.spongepowered.api.world.TeleportHelper;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.asset.SpongeAssetManager;
-import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.guice.ConfigDirAnnotation;
 import org.spongepowered.common.plugin.SpongeApiContainer;
 import org.spongepowered.common.registry.SpongeGameRegistry;
@@ -51,6 +50,7 @@
 import org.spongepowered.server.SpongeVanilla;
 import org.spongepowered.server.VanillaGame;
 import org.spongepowered.server.VanillaPlatform;
+import org.spongepowered.server.event.VanillaEventManager;
 import org.spongepowered.server.network.VanillaChannelRegistrar;
 import org.spongepowered.server.plugin.MinecraftPluginContainer;
 import org.spongepowered.server.plugin.VanillaPluginManager;
@@ -81,7 +81,7 @@ protected void configure() {
         bind(MinecraftVersion.class).toInstance(SpongeImpl.MINECRAFT_VERSION);
         bind(Platform.class).to(VanillaPlatform.class).in(Scopes.SINGLETON);
         bind(PluginManager.class).to(VanillaPluginManager.class).in(Scopes.SINGLETON);
-        bind(EventManager.class).to(SpongeEventManager.class).in(Scopes.SINGLETON);
+        bind(EventManager.class).to(VanillaEventManager.class).in(Scopes.SINGLETON);
         bind(AssetManager.class).to(SpongeAssetManager.class).in(Scopes.SINGLETON);
         bind(GameRegistry.class).to(SpongeGameRegistry.class).in(Scopes.SINGLETON);
         bind(ServiceManager.class).to(SimpleServiceManager.class).in(Scopes.SINGLETON);
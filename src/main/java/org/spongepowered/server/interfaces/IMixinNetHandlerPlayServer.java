@@ -24,8 +24,21 @@
  */
 package org.spongepowered.server.interfaces;
 
+import org.spongepowered.server.network.ChannelTraffic;
+import org.spongepowered.server.network.PayloadRateLimiter;
+
+import javax.annotation.Nullable;
+
 public interface IMixinNetHandlerPlayServer {
 
     boolean supportsChannel(String name);
 
+    ChannelTraffic getChannelTraffic();
+
+    @Nullable
+    PayloadRateLimiter getPayloadRateLimiter();
+
+    // Returns true only for the first call, so the rate limit kick is scheduled once
+    boolean markRateLimitKick();
+
 }
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records the wall time and allocations of the phases of the server startup
+ * and writes them to the logs directory once the server has started.
+ *
+ * <p>Sections are nested in the last section that is still open on the same
+ * thread, unless a parent is given explicitly.</p>
+ */
+public final class StartupTrace {
+
+    private StartupTrace() {
+    }
+
+    private static final String LOGS_DIR = "logs";
+    private static final String TRACE_FILE = "startup-trace.json";
+    private static final String FOLDED_FILE = "startup-trace.folded";
+
+    @Nullable private static final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+
+    private static final Instant startTime = Instant.now();
+    private static final Section root = new Section(null, "startup");
+    private static final ThreadLocal<Deque<Section>> openSections = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final AtomicBoolean finished = new AtomicBoolean();
+
+    public static Section start(String name) {
+        return start(current(), name);
+    }
+
+    public static Section start(@Nullable Section parent, String name) {
+        Section section = new Section(parent != null ? parent : root, name);
+        openSections.get().push(section);
+        return section;
+    }
+
+    @Nullable
+    public static Section current() {
+        return openSections.get().peek();
+    }
+
+    public static void finish() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+
+        root.close();
+
+        Path dir = Paths.get(LOGS_DIR);
+        try {
+            Files.createDirectories(dir);
+            writeTrace(dir.resolve(TRACE_FILE));
+            writeFolded(dir.resolve(FOLDED_FILE));
+            VanillaLaunch.getLogger().info("Startup took {} ms (see {} for details)", TimeUnit.NANOSECONDS.toMillis(root.getDuration()),
+                    dir.resolve(TRACE_FILE));
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().warn("Failed to write startup trace", e);
+        }
+    }
+
+    private static void writeTrace(Path path) throws IOException {
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("started").value(startTime.toString());
+            writer.name("jvmUptimeAtStartMs")
+                    .value(ManagementFactory.getRuntimeMXBean().getUptime() - TimeUnit.NANOSECONDS.toMillis(root.getDuration()));
+            writer.name("trace");
+            writeSection(writer, root);
+            writer.endObject();
+        }
+    }
+
+    private static void writeSection(JsonWriter writer, Section section) throws IOException {
+        writer.beginObject();
+        writer.name("name").value(section.name);
+        writer.name("thread").value(section.thread);
+        writer.name("startMs").value(toMillis(section.start - root.start));
+        writer.name("durationMs").value(toMillis(section.getDuration()));
+        if (section.allocated >= 0) {
+            writer.name("allocatedBytes").value(section.allocated);
+        }
+
+        List<Section> children = section.getChildren();
+        if (!children.isEmpty()) {
+            writer.name("children").beginArray();
+            for (Section child : children) {
+                writeSection(writer, child);
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
+    private static void writeFolded(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeFolded(writer, root, "");
+        }
+    }
+
+    // One line per section with its self time in microseconds, as expected by flame graph tools
+    private static void writeFolded(BufferedWriter writer, Section section, String prefix) throws IOException {
+        String stack = prefix + section.name.replace(';', '_');
+
+        long self = section.getDuration();
+        List<Section> children = section.getChildren();
+        for (Section child : children) {
+            self -= child.getDuration();
+        }
+
+        if (self > 0) {
+            writer.write(stack);
+            writer.write(' ');
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(self)));
+            writer.newLine();
+        }
+
+        for (Section child : children) {
+            writeFolded(writer, child, stack + ';');
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long getAllocatedBytes() {
+        return threadBean != null ? threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunBean;
+                }
+            }
+        } catch (LinkageError ignored) {
+            // Not available on this JVM
+        }
+        return null;
+    }
+
+    public static final class Section implements AutoCloseable {
+
+        final String name;
+        final String thread;
+        final long start;
+        private final long startAllocated;
+        private final List<Section> children = new ArrayList<>();
+
+        private volatile long end;
+        long allocated = -1;
+
+        Section(@Nullable Section parent, String name) {
+            this.name = name;
+            this.thread = Thread.currentThread().getName();
+            this.startAllocated = getAllocatedBytes();
+            this.start = System.nanoTime();
+
+            if (parent != null) {
+                synchronized (parent.children) {
+                    parent.children.add(this);
+                }
+            }
+        }
+
+        long getDuration() {
+            long end = this.end;
+            return (end != 0 ? end : System.nanoTime()) - this.start;
+        }
+
+        List<Section> getChildren() {
+            synchronized (this.children) {
+                return new ArrayList<>(this.children);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.end != 0) {
+                return;
+            }
+
+            if (this != root) {
+                // Allocations are only counted for the thread that opened the section
+                if (this.startAllocated >= 0) {
+                    this.allocated = getAllocatedBytes() - this.startAllocated;
+                }
+                openSections.get().remove(this);
+            }
+
+            this.end = System.nanoTime();
+        }
+
+    }
+
+}
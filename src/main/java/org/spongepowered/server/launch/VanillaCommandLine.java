@@ -63,9 +63,39 @@ private VanillaCommandLine() {
 
     public static final OptionSpec<String> ACCESS_TRANSFORMER = parser.acceptsAll(asList("access-transformer", "at"),
             "Additional access transformer files to apply").withRequiredArg();
+    public static final OptionSpec<Void> NO_CLASS_CACHE = parser.accepts("no-class-cache",
+            "Transform all classes instead of reusing the transformed classes from previous startups");
 
     public static final OptionSpec<Void> SCAN_CLASSPATH = parser.accepts("scan-classpath", "Scan class directories in classpath for plugins");
     public static final OptionSpec<Void> SCAN_FULL_CLASSPATH = parser.accepts("scan-full-classpath", "Scan full classpath for plugins");
+    public static final OptionSpec<Void> NO_PLUGIN_CACHE = parser.accepts("no-plugin-cache",
+            "Scan all plugin JARs instead of reusing the results of previous scans");
+    public static final OptionSpec<Void> VERIFY_PLUGIN_CACHE = parser.accepts("verify-plugin-cache",
+            "Compare the content hash of plugin JARs before reusing the results of previous scans");
+    public static final OptionSpec<Void> NO_PARALLEL_PLUGIN_LOADING = parser.accepts("no-parallel-plugin-loading",
+            "Construct all plugins one after another on the main thread");
+    public static final OptionSpec<String> SERIAL_PLUGIN = parser.accepts("serial-plugin",
+            "Plugin ID(s) to construct on the main thread while no other plugin is being constructed").withRequiredArg();
+
+    // Plugin channels
+    public static final OptionSpec<Double> CHANNEL_RATE_LIMIT = parser.accepts("channel-rate-limit",
+            "Maximum number of plugin channel messages accepted per second from a single player").withRequiredArg().ofType(Double.class);
+    public static final OptionSpec<Integer> CHANNEL_RATE_BURST = parser.accepts("channel-rate-burst",
+            "Number of plugin channel messages a player can send at once before the rate limit applies")
+            .withRequiredArg().ofType(Integer.class).defaultsTo(100);
+    public static final OptionSpec<Void> CHANNEL_RATE_KICK = parser.accepts("channel-rate-kick",
+            "Kick players exceeding the plugin channel rate limit instead of dropping their messages");
+
+    // Chat
+    public static final OptionSpec<Void> ASYNC_CHAT = parser.accepts("async-chat",
+            "Format and send chat messages on a separate thread (requires thread-safe message channels)");
+
+    // World saving
+    public static final OptionSpec<Void> INCREMENTAL_SAVE = parser.accepts("incremental-save",
+            "Spread automatic world saves over multiple ticks instead of saving all worlds at once");
+    public static final OptionSpec<Integer> SAVE_WINDOW = parser.accepts("save-window",
+            "Maximum number of ticks until a modified chunk is saved when incremental saving is enabled")
+            .withRequiredArg().ofType(Integer.class).defaultsTo(900);
 
     // Vanilla Minecraft Server options
     // Note: --singleplayer and --demo are unsupported on SpongeVanilla (and probably have no use on the dedicated server anyway)
@@ -31,6 +31,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.server.launch.transformer.deobf.SrgRemapper;
 
+import java.nio.file.Path;
+
 import javax.annotation.Nullable;
 
 public final class VanillaLaunch {
@@ -38,8 +40,11 @@ public final class VanillaLaunch {
     private VanillaLaunch() {
     }
 
+    private static final String CACHE_DIR = "cache";
+
     private static final Logger logger = LogManager.getLogger(SpongeImpl.ECOSYSTEM_NAME);
     @Nullable private static SrgRemapper remapper;
+    @Nullable private static Path gameDir;
 
     public static Logger getLogger() {
         return logger;
@@ -55,4 +60,13 @@ public static void setRemapper(SrgRemapper newRemapper) {
         VanillaLaunch.remapper = newRemapper;
     }
 
+    public static Path getCacheDir() {
+        checkState(gameDir != null, "Game directory was not set yet");
+        return gameDir.resolve(CACHE_DIR);
+    }
+
+    static void setGameDir(Path gameDir) {
+        VanillaLaunch.gameDir = gameDir;
+    }
+
 }
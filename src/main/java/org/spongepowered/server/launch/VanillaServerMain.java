@@ -89,30 +89,32 @@ public static void main(String[] args) throws Exception {
         }
 
         // Download/verify Minecraft server installation if necessary and not disabled
-        if (!options.has(NO_VERIFY_CLASSPATH)) {
-            // Get the location of our jar
-            Path base = Paths.get(VanillaServerMain.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getParent();
-
-            try {
-                // Download dependencies
-                if (!downloadMinecraft(base, !options.has(NO_DOWNLOAD))) {
-                    System.err.println("Failed to load all required dependencies. Please download them manually:");
-                    System.err.println("Download " + MINECRAFT_SERVER_REMOTE + " and copy it to "
-                            + base.resolve(MINECRAFT_SERVER_LOCAL).toAbsolutePath());
-                    System.err.println("Download " + LAUNCHWRAPPER_REMOTE + " and copy it to "
-                            + base.resolve(LAUNCHWRAPPER_LOCAL).toAbsolutePath());
+        try (StartupTrace.Section ignored = StartupTrace.start("verify-classpath")) {
+            if (!options.has(NO_VERIFY_CLASSPATH)) {
+                // Get the location of our jar
+                Path base = Paths.get(VanillaServerMain.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getParent();
+
+                try {
+                    // Download dependencies
+                    if (!downloadMinecraft(base, !options.has(NO_DOWNLOAD))) {
+                        System.err.println("Failed to load all required dependencies. Please download them manually:");
+                        System.err.println("Download " + MINECRAFT_SERVER_REMOTE + " and copy it to "
+                                + base.resolve(MINECRAFT_SERVER_LOCAL).toAbsolutePath());
+                        System.err.println("Download " + LAUNCHWRAPPER_REMOTE + " and copy it to "
+                                + base.resolve(LAUNCHWRAPPER_LOCAL).toAbsolutePath());
+                        System.exit(1);
+                        return;
+                    }
+                } catch (IOException e) {
+                    System.err.println("Failed to download required dependencies. Please try again later.");
+                    e.printStackTrace();
                     System.exit(1);
                     return;
                 }
-            } catch (IOException e) {
-                System.err.println("Failed to download required dependencies. Please try again later.");
-                e.printStackTrace();
-                System.exit(1);
-                return;
+            } else {
+                System.err.println("Classpath verification is disabled. The server may NOT start properly unless you have all required "
+                        + "dependencies on the classpath!");
             }
-        } else {
-            System.err.println("Classpath verification is disabled. The server may NOT start properly unless you have all required dependencies on "
-                    + "the classpath!");
         }
 
         Launch.main(getLaunchArguments(TWEAKER, options.valuesOf(TWEAK_CLASS)));
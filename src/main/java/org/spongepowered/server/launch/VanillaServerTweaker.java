@@ -27,6 +27,7 @@
 import static com.google.common.io.Resources.getResource;
 import static org.spongepowered.asm.mixin.MixinEnvironment.Side.SERVER;
 import static org.spongepowered.server.launch.VanillaCommandLine.ACCESS_TRANSFORMER;
+import static org.spongepowered.server.launch.VanillaCommandLine.NO_CLASS_CACHE;
 import static org.spongepowered.server.launch.VanillaCommandLine.SCAN_CLASSPATH;
 import static org.spongepowered.server.launch.VanillaCommandLine.SCAN_FULL_CLASSPATH;
 
@@ -40,7 +41,11 @@
 import org.spongepowered.common.launch.SpongeLaunch;
 import org.spongepowered.server.launch.console.TerminalConsoleAppender;
 import org.spongepowered.server.launch.plugin.VanillaLaunchPluginManager;
+import org.spongepowered.server.launch.transformer.at.AccessTransformer;
 import org.spongepowered.server.launch.transformer.at.AccessTransformers;
+import org.spongepowered.server.launch.transformer.cache.CachingTransformer;
+import org.spongepowered.server.launch.transformer.deobf.DeobfuscationTransformer;
+import org.spongepowered.server.launch.transformer.deobf.SrgRemapper;
 
 import java.io.File;
 import java.io.IOException;
@@ -57,6 +62,7 @@ public final class VanillaServerTweaker implements ITweaker {
     public void acceptOptions(List<String> args, File gameDir, File assetsDir, String profile) {
         VanillaCommandLine.parse(args);
         TerminalConsoleAppender.initialize();
+        VanillaLaunch.setGameDir(gameDir.toPath());
 
         List<String> unrecognizedOptions = VanillaCommandLine.getUnrecognizedOptions();
         if (!unrecognizedOptions.isEmpty()) {
@@ -67,7 +73,14 @@ public void acceptOptions(List<String> args, File gameDir, File assetsDir, Strin
     @Override
     public void injectIntoClassLoader(LaunchClassLoader loader) {
         VanillaLaunch.getLogger().info("Initializing Sponge...");
+        try (StartupTrace.Section ignored = StartupTrace.start("tweaker")) {
+            setupClassLoader(loader);
+        }
+
+        VanillaLaunch.getLogger().info("Initialization finished. Starting Minecraft server...");
+    }
 
+    private static void setupClassLoader(LaunchClassLoader loader) {
         // We shouldn't load these through Launchwrapper as they use native dependencies
         loader.addClassLoaderExclusion("io.netty.");
         loader.addClassLoaderExclusion("jline.");
@@ -106,66 +119,85 @@ public void injectIntoClassLoader(LaunchClassLoader loader) {
 
         // Check if we're running in de-obfuscated environment already
         VanillaLaunch.getLogger().debug("Applying runtime de-obfuscation...");
-        if (isObfuscated()) {
-            // Enable Notch->Searge deobfuscation
-            VanillaLaunch.getLogger().info("De-obfuscation mappings are provided by MCP (http://www.modcoderpack.com)");
-            Launch.blackboard.put("vanilla.srg_mappings", getResource("mappings.srg"));
-            loader.registerTransformer("org.spongepowered.server.launch.transformer.deobf.NotchDeobfuscationTransformer");
-        } else {
-            // Enable Searge->MCP deobfuscation (if running in ForgeGradle)
-            String mcpDir = System.getProperty(FORGE_GRADLE_CSV_DIR);
-            if (mcpDir != null) {
-                Launch.blackboard.put("vanilla.mcp_mappings", Paths.get(mcpDir));
-                loader.registerTransformer("org.spongepowered.server.launch.transformer.deobf.SeargeDeobfuscationTransformer");
-            }
+        final boolean obfuscated;
+        try (StartupTrace.Section ignored = StartupTrace.start("deobfuscation")) {
+            obfuscated = isObfuscated();
+            if (obfuscated) {
+                // Enable Notch->Searge deobfuscation
+                VanillaLaunch.getLogger().info("De-obfuscation mappings are provided by MCP (http://www.modcoderpack.com)");
+                Launch.blackboard.put("vanilla.srg_mappings", getResource("mappings.srg"));
+                loader.registerTransformer("org.spongepowered.server.launch.transformer.deobf.NotchDeobfuscationTransformer");
+            } else {
+                // Enable Searge->MCP deobfuscation (if running in ForgeGradle)
+                String mcpDir = System.getProperty(FORGE_GRADLE_CSV_DIR);
+                if (mcpDir != null) {
+                    Launch.blackboard.put("vanilla.mcp_mappings", Paths.get(mcpDir));
+                    loader.registerTransformer("org.spongepowered.server.launch.transformer.deobf.SeargeDeobfuscationTransformer");
+                }
 
-            // Enable plugin classpath scanning in deobfuscated environment
-            scanClasspath = true;
+                // Enable plugin classpath scanning in deobfuscated environment
+                scanClasspath = true;
+            }
         }
 
         try {
             // Apply our access transformers
-            AccessTransformers.register(getResource("META-INF/common_at.cfg"));
-            AccessTransformers.register(getResource("META-INF/vanilla_at.cfg"));
-
-            // Apply access transformers from command line
-            for (String at : options.valuesOf(ACCESS_TRANSFORMER)) {
-                // First check if the AT exists as file
-                Path path = Paths.get(at);
-                if (Files.isReadable(path)) {
-                    AccessTransformers.register(path);
-                } else {
-                    // Try as resource in classpath instead
-                    AccessTransformers.register(getResource(at));
+            try (StartupTrace.Section ignored = StartupTrace.start("access-transformers")) {
+                AccessTransformers.register(getResource("META-INF/common_at.cfg"));
+                AccessTransformers.register(getResource("META-INF/vanilla_at.cfg"));
+
+                // Apply access transformers from command line
+                for (String at : options.valuesOf(ACCESS_TRANSFORMER)) {
+                    // First check if the AT exists as file
+                    Path path = Paths.get(at);
+                    if (Files.isReadable(path)) {
+                        AccessTransformers.register(path);
+                    } else {
+                        // Try as resource in classpath instead
+                        AccessTransformers.register(getResource(at));
+                    }
                 }
             }
 
             // Search for plugins (and apply access transformers if available)
-            VanillaLaunchPluginManager.findPlugins(scanClasspath, options.has(SCAN_FULL_CLASSPATH));
+            try (StartupTrace.Section ignored = StartupTrace.start("plugin-scan")) {
+                VanillaLaunchPluginManager.findPlugins(scanClasspath, options.has(SCAN_FULL_CLASSPATH));
+            }
         } catch (IOException e) {
             throw Throwables.propagate(e);
         }
 
         VanillaLaunch.getLogger().debug("Applying access transformer...");
-        loader.registerTransformer("org.spongepowered.server.launch.transformer.at.AccessTransformer");
+        SrgRemapper deobfuscationTransformer = VanillaLaunch.getRemapper();
+        if (deobfuscationTransformer instanceof DeobfuscationTransformer) {
+            // Apply access transformers in the same pass as the de-obfuscation
+            ((DeobfuscationTransformer) deobfuscationTransformer).setAccessTransformer(new AccessTransformer());
+        } else {
+            loader.registerTransformer("org.spongepowered.server.launch.transformer.at.AccessTransformer");
+        }
 
         VanillaLaunch.getLogger().debug("Initializing Mixin environment...");
-        MixinEnvironment env = SpongeLaunch.setupMixinEnvironment()
-                .addConfiguration("mixins.vanilla.json")
-                .addConfiguration("mixins.vanilla.entityactivation.json")
-                .setSide(SERVER);
-
-        // Add our remapper to Mixin's remapper chain
-        IRemapper remapper = VanillaLaunch.getRemapper();
-        if (remapper != null) {
-            env.getRemappers().add(remapper);
-        }
+        try (StartupTrace.Section ignored = StartupTrace.start("mixin")) {
+            MixinEnvironment env = SpongeLaunch.setupMixinEnvironment()
+                    .addConfiguration("mixins.vanilla.json")
+                    .addConfiguration("mixins.vanilla.entityactivation.json")
+                    .setSide(SERVER);
+
+            // Add our remapper to Mixin's remapper chain
+            IRemapper remapper = VanillaLaunch.getRemapper();
+            if (remapper != null) {
+                env.getRemappers().add(remapper);
+            }
 
-        // Superclass transformer
-        loader.registerTransformer(SpongeLaunch.SUPERCLASS_TRANSFORMER);
-        SpongeLaunch.setupSuperClassTransformer();
+            // Superclass transformer
+            loader.registerTransformer(SpongeLaunch.SUPERCLASS_TRANSFORMER);
+            SpongeLaunch.setupSuperClassTransformer();
+        }
 
-        VanillaLaunch.getLogger().info("Initialization finished. Starting Minecraft server...");
+        if (obfuscated && !options.has(NO_CLASS_CACHE)) {
+            // Reuse the transformed classes from previous startups
+            CachingTransformer.install(loader, VanillaLaunch.getCacheDir());
+        }
     }
 
     private static boolean isObfuscated() {
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.plugin;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Checks the constant pool of a class file for the {@code @Plugin}
+ * annotation descriptor, so classes that can't be plugins don't need to be
+ * parsed with ASM.
+ */
+final class PluginClassFilter {
+
+    private static final byte[] PLUGIN_DESCRIPTOR = "Lorg/spongepowered/api/plugin/Plugin;".getBytes(UTF_8);
+
+    private static final int CLASS_MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+
+    private PluginClassFilter() {
+    }
+
+    /**
+     * Returns whether the given class file may contain a plugin class. Class
+     * files that can't be parsed are passed on to ASM to report the error.
+     */
+    static boolean mayContainPlugin(byte[] b) {
+        if (b.length < 10 || readInt(b, 0) != CLASS_MAGIC) {
+            return true;
+        }
+
+        final int count = readUnsignedShort(b, 8);
+        int pos = 10;
+        for (int i = 1; i < count; i++) {
+            if (pos >= b.length) {
+                return true;
+            }
+
+            switch (b[pos]) {
+                case CONSTANT_UTF8:
+                    if (pos + 3 > b.length) {
+                        return true;
+                    }
+                    final int length = readUnsignedShort(b, pos + 1);
+                    pos += 3;
+                    if (length == PLUGIN_DESCRIPTOR.length && matches(b, pos)) {
+                        return true;
+                    }
+                    pos += length;
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                    pos += 3;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    pos += 4;
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    pos += 5;
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    pos += 9;
+                    i++; // Takes two entries in the constant pool
+                    break;
+                default:
+                    return true; // Unknown constant
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matches(byte[] b, int pos) {
+        if (pos + PLUGIN_DESCRIPTOR.length > b.length) {
+            return false;
+        }
+
+        for (int i = 0; i < PLUGIN_DESCRIPTOR.length; i++) {
+            if (b[pos + i] != PLUGIN_DESCRIPTOR[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int readUnsignedShort(byte[] b, int pos) {
+        return (b[pos] & 0xFF) << 8 | b[pos + 1] & 0xFF;
+    }
+
+    private static int readInt(byte[] b, int pos) {
+        return (b[pos] & 0xFF) << 24 | (b[pos + 1] & 0xFF) << 16 | (b[pos + 2] & 0xFF) << 8 | b[pos + 3] & 0xFF;
+    }
+
+}
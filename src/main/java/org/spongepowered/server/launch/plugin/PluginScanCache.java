@@ -0,0 +1,215 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.plugin;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.spongepowered.plugin.meta.McModInfo;
+import org.spongepowered.plugin.meta.PluginMetadata;
+import org.spongepowered.server.launch.AtomicFiles;
+import org.spongepowered.server.launch.VanillaLaunch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the results of plugin JAR scans, so JARs that didn't change since
+ * the last startup don't need to be scanned again.
+ */
+final class PluginScanCache {
+
+    private static final int VERSION = 1;
+
+    private static final Gson gson = new Gson();
+
+    private final Path file;
+    private final boolean verifyHash;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Only the entries of JARs that still exist are written back
+    private final Map<String, Entry> usedEntries = new ConcurrentHashMap<>();
+
+    PluginScanCache(Path file, boolean verifyHash) {
+        this.file = file;
+        this.verifyHash = verifyHash;
+    }
+
+    void load() {
+        if (!Files.exists(this.file)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(this.file, UTF_8)) {
+            Index index = gson.fromJson(reader, Index.class);
+            if (index != null && index.version == VERSION && index.jars != null) {
+                this.entries.putAll(index.jars);
+            }
+        } catch (IOException | JsonParseException e) {
+            VanillaLaunch.getLogger().warn("Failed to read plugin scan cache from {}", this.file, e);
+        }
+    }
+
+    void save() {
+        Index index = new Index();
+        index.version = VERSION;
+        index.jars = this.usedEntries;
+
+        try {
+            Files.createDirectories(this.file.getParent());
+            AtomicFiles.write(this.file, out -> {
+                try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8))) {
+                    gson.toJson(index, Index.class, writer);
+                }
+            });
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().warn("Failed to save plugin scan cache to {}", this.file, e);
+        }
+    }
+
+    @Nullable
+    ScannedJar get(Path path) {
+        final String key = path.toAbsolutePath().toString();
+        final Entry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            if (entry.size != Files.size(path) || entry.modified != Files.getLastModifiedTime(path).toMillis()
+                    || (this.verifyHash && !Objects.equals(entry.hash, hash(path)))) {
+                return null;
+            }
+
+            final ScannedJar jar = new ScannedJar(path);
+            if (entry.plugins != null) {
+                final List<PluginMetadata> metadata = readMetadata(entry.plugins);
+                if (metadata.size() != entry.pluginClasses.size()) {
+                    return null;
+                }
+
+                for (int i = 0; i < metadata.size(); i++) {
+                    jar.addCandidate(new PluginCandidate(entry.pluginClasses.get(i), path, metadata.get(i)));
+                }
+            }
+            if (entry.metadata != null) {
+                jar.setMetadata(readMetadata(entry.metadata));
+            }
+            entry.accessTransformers.forEach(jar::addAccessTransformer);
+            jar.setMissingAccessTransformers(new HashSet<>(entry.missingAccessTransformers));
+
+            this.usedEntries.put(key, entry);
+            return jar;
+        } catch (IOException | RuntimeException e) {
+            VanillaLaunch.getLogger().debug("Ignoring invalid plugin scan cache entry for {}", path, e);
+            return null;
+        }
+    }
+
+    void put(ScannedJar jar) {
+        if (!jar.isValid()) {
+            return;
+        }
+
+        final Path path = jar.getPath();
+        try {
+            final Entry entry = new Entry();
+            entry.size = Files.size(path);
+            entry.modified = Files.getLastModifiedTime(path).toMillis();
+            if (this.verifyHash) {
+                entry.hash = hash(path);
+            }
+
+            if (!jar.getCandidates().isEmpty()) {
+                entry.pluginClasses = jar.getCandidates().stream().map(PluginCandidate::getPluginClass).collect(Collectors.toList());
+                entry.plugins = writeMetadata(jar.getCandidates().stream().map(PluginCandidate::getMetadata).collect(Collectors.toList()));
+            }
+            if (jar.getMetadata() != null) {
+                entry.metadata = writeMetadata(jar.getMetadata());
+            }
+            entry.accessTransformers = new ArrayList<>(jar.getAccessTransformers());
+            entry.missingAccessTransformers = new ArrayList<>(jar.getMissingAccessTransformers());
+
+            this.usedEntries.put(path.toAbsolutePath().toString(), entry);
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().debug("Failed to cache plugin scan results for {}", path, e);
+        }
+    }
+
+    private static String hash(Path path) throws IOException {
+        return com.google.common.io.Files.asByteSource(path.toFile()).hash(Hashing.sha1()).toString();
+    }
+
+    private static List<PluginMetadata> readMetadata(String json) throws IOException {
+        return new ArrayList<>(McModInfo.DEFAULT.read(new BufferedReader(new StringReader(json))));
+    }
+
+    private static String writeMetadata(List<PluginMetadata> metadata) throws IOException {
+        StringWriter writer = new StringWriter();
+        McModInfo.DEFAULT.write(writer, metadata);
+        return writer.toString();
+    }
+
+    private static final class Index {
+
+        int version;
+        @Nullable Map<String, Entry> jars;
+
+    }
+
+    private static final class Entry {
+
+        long size;
+        long modified;
+        @Nullable String hash;
+
+        @Nullable List<String> pluginClasses;
+        // The plugin metadata from the annotations, in mcmod.info format
+        @Nullable String plugins;
+        @Nullable String metadata;
+
+        List<String> accessTransformers = new ArrayList<>();
+        List<String> missingAccessTransformers = new ArrayList<>();
+
+    }
+
+}
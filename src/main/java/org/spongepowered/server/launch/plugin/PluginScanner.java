@@ -24,9 +24,13 @@
  */
 package org.spongepowered.server.launch.plugin;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 import static org.spongepowered.api.plugin.Plugin.ID_PATTERN;
 
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CharStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Logger;
 import org.objectweb.asm.ClassReader;
 import org.spongepowered.plugin.meta.McModInfo;
@@ -35,33 +39,41 @@
 import org.spongepowered.server.launch.plugin.asm.PluginClassVisitor;
 import org.spongepowered.server.launch.transformer.at.AccessTransformers;
 
-import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.DirectoryStream;
-import java.nio.file.FileVisitOption;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.zip.ZipEntry;
 
@@ -84,14 +96,19 @@ final class PluginScanner {
     private final Map<String, PluginCandidate> plugins = new HashMap<>();
     private final Set<String> pluginClasses = new HashSet<>();
 
-    @Nullable private FileVisitor<Path> classFileVisitor;
+    @Nullable private final PluginScanCache cache;
+
+    PluginScanner(@Nullable PluginScanCache cache) {
+        this.cache = cache;
+    }
 
     public Map<String, PluginCandidate> getPlugins() {
         return this.plugins;
     }
 
     void scanClassPath(URLClassLoader loader, boolean scanJars) {
-        Set<URI> sources = new HashSet<>();
+        Set<Path> sources = new LinkedHashSet<>();
+        List<Path> jars = new ArrayList<>();
 
         for (URL url : loader.getURLs()) {
             if (!url.getProtocol().equals("file")) {
@@ -117,12 +134,25 @@ void scanClassPath(URLClassLoader loader, boolean scanJars) {
                 continue;
             }
 
-            if (sources.add(source)) {
-                Path path = Paths.get(source);
-                if (Files.isDirectory(path)) {
-                    scanClasspathDirectory(path);
-                } else if (scanJars && JAR_FILE.matches(path) && Files.exists(path)) {
-                    scanJar(path, true);
+            Path path = Paths.get(source);
+            if (sources.add(path) && !Files.isDirectory(path) && scanJars && JAR_FILE.matches(path) && Files.exists(path)) {
+                jars.add(path);
+            }
+        }
+
+        // Scan the JARs in parallel, but add the plugins in classpath order
+        Map<Path, ScannedJar> scannedJars = new HashMap<>();
+        for (ScannedJar jar : scanJars(jars, true)) {
+            scannedJars.put(jar.getPath(), jar);
+        }
+
+        for (Path path : sources) {
+            if (Files.isDirectory(path)) {
+                scanClasspathDirectory(path);
+            } else {
+                ScannedJar jar = scannedJars.get(path);
+                if (jar != null) {
+                    addJar(jar, true);
                 }
             }
         }
@@ -131,120 +161,267 @@ void scanClassPath(URLClassLoader loader, boolean scanJars) {
     private void scanClasspathDirectory(Path dir) {
         logger.trace("Scanning {} for plugins", dir);
 
-        if (this.classFileVisitor == null) {
-            this.classFileVisitor = new ClassFileVisitor();
+        // Walk the directory tree in parallel, the candidates are still added in a stable order
+        for (PluginCandidate candidate : ForkJoinPool.commonPool().invoke(new ClassDirectoryScanTask(dir, ConcurrentHashMap.newKeySet()))) {
+            addCandidate(candidate);
         }
+    }
 
+    @Nullable
+    private static PluginCandidate scanClassFile(Path path) {
         try {
-            Files.walkFileTree(dir, Collections.singleton(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, this.classFileVisitor);
+            final byte[] classFile = Files.readAllBytes(path);
+
+            // Skip classes without a reference to the @Plugin annotation
+            if (!PluginClassFilter.mayContainPlugin(classFile)) {
+                return null;
+            }
+
+            return scanClassFile(new ClassReader(classFile), null);
         } catch (IOException e) {
-            logger.error("Failed to search for plugins in {}", dir, e);
+            logger.error("Failed to search for plugins in {}", path, e);
+            return null;
         }
     }
 
-    void visitClasspathFile(Path path) {
-        if (CLASS_FILE.matches(path)) {
-            try (InputStream in = Files.newInputStream(path)) {
-                PluginCandidate candidate = scanClassFile(in, null);
-                if (candidate != null) {
-                    addCandidate(candidate);
+    private static final class ClassDirectoryScanTask extends RecursiveTask<List<PluginCandidate>> {
+
+        private final Path dir;
+        private final Set<Path> visited;
+
+        ClassDirectoryScanTask(Path dir, Set<Path> visited) {
+            this.dir = dir;
+            this.visited = visited;
+        }
+
+        @Override
+        protected List<PluginCandidate> compute() {
+            final List<Path> paths = new ArrayList<>();
+            try {
+                // Symbolic links may lead to a directory that was visited already
+                if (!this.visited.add(this.dir.toRealPath())) {
+                    return Collections.emptyList();
+                }
+
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dir)) {
+                    for (Path path : stream) {
+                        paths.add(path);
+                    }
                 }
             } catch (IOException e) {
-                logger.error("Failed to search for plugins in {}", path, e);
+                logger.error("Failed to search for plugins in {}", this.dir, e);
+                return Collections.emptyList();
             }
-        }
-    }
 
-    private final class ClassFileVisitor extends SimpleFileVisitor<Path> {
+            Collections.sort(paths);
 
-        @Override
-        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-            visitClasspathFile(file);
-            return FileVisitResult.CONTINUE;
+            final List<PluginCandidate> result = new ArrayList<>();
+            final List<ClassDirectoryScanTask> subdirectories = new ArrayList<>();
+            for (Path path : paths) {
+                if (Files.isDirectory(path)) {
+                    ClassDirectoryScanTask task = new ClassDirectoryScanTask(path, this.visited);
+                    task.fork();
+                    subdirectories.add(task);
+                } else if (CLASS_FILE.matches(path)) {
+                    PluginCandidate candidate = scanClassFile(path);
+                    if (candidate != null) {
+                        result.add(candidate);
+                    }
+                }
+            }
+
+            for (ClassDirectoryScanTask task : subdirectories) {
+                result.addAll(task.join());
+            }
+
+            return result;
         }
 
     }
 
     void scanDirectory(Path path) {
+        List<Path> jars = new ArrayList<>();
         try (DirectoryStream<Path> dir = Files.newDirectoryStream(path, JAR_FILTER)) {
             for (Path jar : dir) {
-                scanJar(jar, false);
+                jars.add(jar);
             }
         } catch (IOException e) {
             logger.error("Failed to search for plugins in {}", path, e);
+            return;
+        }
+
+        // Sort the JARs so plugins with duplicate IDs are always resolved the same way
+        Collections.sort(jars);
+
+        for (ScannedJar jar : scanJars(jars, false)) {
+            addJar(jar, false);
         }
     }
 
-    void scanJar(Path path, boolean classpath) {
-        logger.trace("Scanning {} for plugins", path);
+    private List<ScannedJar> scanJars(List<Path> jars, boolean classpath) {
+        if (jars.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        Set<String> annotationProcessors = Collections.emptySet();
-        List<PluginCandidate> candidates = new ArrayList<>();
-        List<PluginMetadata> metadata = null;
+        final long start = System.nanoTime();
+        final List<ScannedJar> result = new ArrayList<>(jars.size());
 
-        // Open the zip file so we can scan it for plugins
-        try (JarInputStream jar = new JarInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
-            ZipEntry entry = jar.getNextEntry();
-            if (entry == null) {
-                return;
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(jars.size(), Runtime.getRuntime().availableProcessors()),
+                new ThreadFactoryBuilder().setNameFormat("Plugin Scanner #%d").setDaemon(true).build());
+        try {
+            List<Future<ScannedJar>> futures = new ArrayList<>(jars.size());
+            for (Path jar : jars) {
+                futures.add(executor.submit(() -> scanJar(jar, classpath)));
             }
 
-            Manifest manifest = jar.getManifest();
-            if (manifest == null) {
-                // JarInputStream seems to be only able to find the manifest if it's one of the first entries...
-                // Try harder to find it anyway - Wtf Java?
-                try (JarFile jarFile = new JarFile(path.toFile())) {
-                    manifest = jarFile.getManifest();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    result.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    logger.error("Failed to scan plugin JAR: {}", jars.get(i), e.getCause());
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
 
+        logger.info("Scanned {} JAR(s) for plugins in {} ms", jars.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (logger.isDebugEnabled()) {
+            result.stream()
+                    .sorted(Comparator.comparingLong(ScannedJar::getScanTime).reversed())
+                    .forEach(jar -> logger.debug("  {} ms: {}", TimeUnit.NANOSECONDS.toMillis(jar.getScanTime()), jar.getPath()));
+        }
+
+        return result;
+    }
+
+    private ScannedJar scanJar(Path path, boolean classpath) {
+        final long start = System.nanoTime();
+
+        ScannedJar result = this.cache != null ? this.cache.get(path) : null;
+        if (result != null) {
+            logger.trace("Using cached plugin scan results for {}", path);
+        } else {
+            logger.trace("Scanning {} for plugins", path);
+
+            result = new ScannedJar(path);
+            try {
+                scanJar(result, classpath);
+            } catch (IOException e) {
+                logger.error("Failed to scan plugin JAR: {}", path, e);
+                result.invalidate();
+            }
+
+            if (this.cache != null) {
+                this.cache.put(result);
+            }
+        }
+
+        result.setScanTime(System.nanoTime() - start);
+        return result;
+    }
+
+    private static void scanJar(ScannedJar result, boolean classpath) throws IOException {
+        final Path path = result.getPath();
+
+        // Use the central directory of the zip file to find the entries we are interested in
+        try (JarFile jar = new JarFile(path.toFile(), false)) {
+            Set<String> annotationProcessors = Collections.emptySet();
+
+            Manifest manifest = jar.getManifest();
             if (manifest != null) {
                 annotationProcessors = PluginAccessTransformers.find(manifest);
             } else if (!classpath) {
                 logger.warn("Missing JAR manifest in {}", path); // TODO
             }
 
-            do {
-                if (entry.isDirectory()) {
+            ZipEntry metadataEntry = jar.getEntry(METADATA_FILE);
+            if (metadataEntry != null) {
+                try (InputStream in = jar.getInputStream(metadataEntry)) {
+                    result.setMetadata(new ArrayList<>(McModInfo.DEFAULT.read(in)));
+                } catch (IOException e) {
+                    logger.error("Failed to read plugin metadata from " + METADATA_FILE + " in {}", path, e);
+                    result.invalidate();
+                    return;
+                }
+            }
+
+            Set<String> missingAccessTransformers = new HashSet<>();
+            for (String name : annotationProcessors) {
+                ZipEntry entry = jar.getEntry(name);
+                if (entry == null) {
+                    missingAccessTransformers.add(name);
                     continue;
                 }
 
-                final String name = entry.getName();
+                try (InputStream in = jar.getInputStream(entry)) {
+                    result.addAccessTransformer(CharStreams.toString(new InputStreamReader(in, UTF_8)));
+                } catch (IOException e) {
+                    logger.warn("Failed to read access transformer from: {}!{}", path, name, e);
+                }
+            }
+            result.setMissingAccessTransformers(missingAccessTransformers);
 
-                if (!name.endsWith(CLASS_EXTENSION)) {
-                    if (name.equals(METADATA_FILE)) {
-                        try {
-                            metadata = new ArrayList<>(McModInfo.DEFAULT.read(jar));
-                        } catch (IOException e) {
-                            logger.error("Failed to read plugin metadata from " + METADATA_FILE + " in {}", path, e);
-                            return;
-                        }
-                    } else if (annotationProcessors.remove(name)) {
-                        try {
-                            AccessTransformers.register(jar);
-                        } catch (IOException e) {
-                            logger.warn("Failed to read access transformer from: {}!{}", path, name, e);
-                        }
-                    }
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName().endsWith(CLASS_EXTENSION)) {
+                    continue;
+                }
+
+                final byte[] classFile;
+                try (InputStream in = jar.getInputStream(entry)) {
+                    classFile = readEntry(in, entry.getSize());
+                }
 
+                // Skip classes without a reference to the @Plugin annotation
+                if (!PluginClassFilter.mayContainPlugin(classFile)) {
                     continue;
                 }
 
-                PluginCandidate candidate = scanClassFile(jar, path);
+                PluginCandidate candidate = scanClassFile(new ClassReader(classFile), path);
                 if (candidate != null) {
-                    candidates.add(candidate);
+                    result.addCandidate(candidate);
                 }
-            } while ((entry = jar.getNextEntry()) != null);
-        } catch (IOException e) {
-            logger.error("Failed to scan plugin JAR: {}", path, e);
+            }
+        }
+    }
+
+    private static byte[] readEntry(InputStream in, long size) throws IOException {
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            return ByteStreams.toByteArray(in);
+        }
+
+        final byte[] b = new byte[(int) size];
+        ByteStreams.readFully(in, b);
+        return b;
+    }
+
+    private void addJar(ScannedJar jar, boolean classpath) {
+        if (!jar.isValid()) {
             return;
         }
 
+        final Path path = jar.getPath();
+
+        for (String accessTransformer : jar.getAccessTransformers()) {
+            try {
+                AccessTransformers.register(new BufferedReader(new StringReader(accessTransformer)));
+            } catch (IOException e) {
+                logger.warn("Failed to read access transformer from: {}", path, e);
+            }
+        }
+
         // There are some annotation processors left we haven't read yet
-        if (!annotationProcessors.isEmpty()) {
-            logger.warn("Found non-existent access transformers in plugin manifest of {}: {}", path, annotationProcessors);
+        if (!jar.getMissingAccessTransformers().isEmpty()) {
+            logger.warn("Found non-existent access transformers in plugin manifest of {}: {}", path, jar.getMissingAccessTransformers());
         }
 
+        final List<PluginCandidate> candidates = jar.getCandidates();
+        final List<PluginMetadata> metadata = jar.getMetadata();
+
         if (!candidates.isEmpty()) {
             for (PluginCandidate candidate : candidates) {
                 addCandidate(candidate);
@@ -309,8 +486,8 @@ private void addCandidate(PluginCandidate candidate) {
         }
     }
 
-    private PluginCandidate scanClassFile(InputStream in, @Nullable Path source) throws IOException {
-        ClassReader reader = new ClassReader(in);
+    @Nullable
+    private static PluginCandidate scanClassFile(ClassReader reader, @Nullable Path source) {
         PluginClassVisitor visitor = new PluginClassVisitor();
 
         try {
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.plugin;
+
+import org.spongepowered.plugin.meta.PluginMetadata;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+final class ScannedJar {
+
+    private final Path path;
+    private final List<PluginCandidate> candidates = new ArrayList<>();
+    private final List<String> accessTransformers = new ArrayList<>();
+    private Set<String> missingAccessTransformers = Collections.emptySet();
+    @Nullable private List<PluginMetadata> metadata;
+    private boolean valid = true;
+    private long scanTime;
+
+    ScannedJar(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return this.path;
+    }
+
+    List<PluginCandidate> getCandidates() {
+        return this.candidates;
+    }
+
+    void addCandidate(PluginCandidate candidate) {
+        this.candidates.add(candidate);
+    }
+
+    List<String> getAccessTransformers() {
+        return this.accessTransformers;
+    }
+
+    void addAccessTransformer(String accessTransformer) {
+        this.accessTransformers.add(accessTransformer);
+    }
+
+    Set<String> getMissingAccessTransformers() {
+        return this.missingAccessTransformers;
+    }
+
+    void setMissingAccessTransformers(Set<String> missingAccessTransformers) {
+        this.missingAccessTransformers = missingAccessTransformers;
+    }
+
+    @Nullable
+    List<PluginMetadata> getMetadata() {
+        return this.metadata;
+    }
+
+    void setMetadata(List<PluginMetadata> metadata) {
+        this.metadata = metadata;
+    }
+
+    boolean isValid() {
+        return this.valid;
+    }
+
+    void invalidate() {
+        this.valid = false;
+    }
+
+    long getScanTime() {
+        return this.scanTime;
+    }
+
+    void setScanTime(long scanTime) {
+        this.scanTime = scanTime;
+    }
+
+}
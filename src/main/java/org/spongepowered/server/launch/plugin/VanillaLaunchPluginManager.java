@@ -25,20 +25,28 @@
 package org.spongepowered.server.launch.plugin;
 
 import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.server.launch.VanillaCommandLine.NO_PLUGIN_CACHE;
+import static org.spongepowered.server.launch.VanillaCommandLine.VERIFY_PLUGIN_CACHE;
 
+import joptsimple.OptionSet;
 import org.spongepowered.common.launch.SpongeLaunch;
+import org.spongepowered.server.launch.VanillaCommandLine;
 import org.spongepowered.server.launch.VanillaLaunch;
 
 import java.io.IOException;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 import javax.annotation.Nullable;
 
 public final class VanillaLaunchPluginManager {
 
+    private static final String SCAN_CACHE_FILE = "plugins.json";
+
     private VanillaLaunchPluginManager() {
     }
 
@@ -48,7 +56,14 @@ private VanillaLaunchPluginManager() {
     public static void findPlugins(boolean scanClasspath, boolean scanFullClasspath) throws IOException {
         VanillaLaunch.getLogger().info("Searching for plugins...");
 
-        PluginScanner pluginScanner = new PluginScanner();
+        PluginScanCache cache = null;
+        OptionSet options = VanillaCommandLine.getOptions().orElse(null);
+        if (options == null || !options.has(NO_PLUGIN_CACHE)) {
+            cache = new PluginScanCache(VanillaLaunch.getCacheDir().resolve(SCAN_CACHE_FILE), options != null && options.has(VERIFY_PLUGIN_CACHE));
+            cache.load();
+        }
+
+        PluginScanner pluginScanner = new PluginScanner(cache);
 
         if (scanClasspath || scanFullClasspath) {
             VanillaLaunch.getLogger().info("Scanning classpath for plugins...");
@@ -69,10 +84,20 @@ public static void findPlugins(boolean scanClasspath, boolean scanFullClasspath)
             Files.createDirectories(pluginsDir);
         }
 
+        if (cache != null) {
+            cache.save();
+        }
+
         plugins = pluginScanner.getPlugins();
         VanillaLaunch.getLogger().info("{} plugin(s) found", plugins.size());
     }
 
+    // Unlike getPlugins, the plugins are kept for the plugin manager
+    public static Collection<PluginCandidate> getCandidates() {
+        checkState(plugins != null, "Plugin folder was not scanned yet");
+        return Collections.unmodifiableCollection(plugins.values());
+    }
+
     public static Map<String, PluginCandidate> getPlugins() {
         checkState(plugins != null, "Plugin folder was not scanned yet");
         Map<String, PluginCandidate> result = plugins;
@@ -63,6 +63,20 @@ public byte[] transform(String name, String transformedName, @Nullable byte[] by
         return writer.toByteArray();
     }
 
+    /**
+     * Creates a visitor that applies the access transformers for the given
+     * class, so they can be applied together with other visitors.
+     *
+     * @param transformedName The transformed name of the class
+     * @param cv The visitor to delegate to
+     * @return The access transforming visitor, or the delegate if there are
+     *     no access transformers for the class
+     */
+    public ClassVisitor createClassVisitor(String transformedName, ClassVisitor cv) {
+        ClassAccessModifiers modifiers = this.modifiers.get(transformedName);
+        return modifiers != null ? new AccessTransformingClassAdapter(cv, modifiers) : cv;
+    }
+
     private static class AccessTransformingClassAdapter extends ClassVisitor {
 
         private final ClassAccessModifiers modifiers;
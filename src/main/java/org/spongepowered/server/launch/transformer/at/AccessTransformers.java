@@ -30,6 +30,9 @@
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.spongepowered.server.launch.VanillaLaunch;
 import org.spongepowered.server.launch.transformer.deobf.SrgRemapper;
 
@@ -59,6 +62,10 @@ private AccessTransformers() {
     @Nullable
     private static Map<String, ClassAccessModifiers.Builder> rules = new HashMap<>();
 
+    // Identifies the registered rules, e.g. for caching transformed classes
+    private static final Hasher hasher = Hashing.sha1().newHasher();
+    @Nullable private static HashCode hash;
+
     private static void verifyState() {
         checkState(rules != null, "Attempted to register after access transformer was initialized");
     }
@@ -111,6 +118,8 @@ public static void register(BufferedReader reader) throws IOException {
                 continue;
             }
 
+            hasher.putString(line, UTF_8).putChar('\n');
+
             final String className = parts.get(1);
             ClassAccessModifiers.Builder builder = rules.get(className);
             if (builder == null) {
@@ -154,7 +163,13 @@ static ImmutableMap<String, ClassAccessModifiers> build() {
         }
 
         rules = null;
+        hash = hasher.hash();
         return builder.build();
     }
 
+    public static HashCode getHash() {
+        checkState(hash != null, "Access transformer was not initialized yet");
+        return hash;
+    }
+
 }
@@ -0,0 +1,278 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.transformer.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import net.minecraft.launchwrapper.IClassNameTransformer;
+import net.minecraft.launchwrapper.IClassTransformer;
+import net.minecraft.launchwrapper.LaunchClassLoader;
+import org.spongepowered.server.launch.AtomicFiles;
+import org.spongepowered.server.launch.VanillaLaunch;
+import org.spongepowered.server.launch.plugin.PluginCandidate;
+import org.spongepowered.server.launch.plugin.VanillaLaunchPluginManager;
+import org.spongepowered.server.launch.transformer.at.AccessTransformers;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Wraps the class transformers registered before Mixin and stores their
+ * output on disk, so classes that didn't change since the last startup
+ * don't need to be transformed again.
+ */
+public final class CachingTransformer implements IClassTransformer, IClassNameTransformer {
+
+    private static final int VERSION = 1;
+
+    private static final String CLASSES_DIR = "classes";
+    private static final String CONFIG_FILE = "config";
+    private static final String CLASS_EXTENSION = ".class";
+
+    private static final String MIXIN_PACKAGE = "org.spongepowered.asm.mixin.";
+
+    private static final HashFunction hashFunction = Hashing.murmur3_128();
+    private static final int HASH_LENGTH = hashFunction.bits() / 8;
+
+    private final List<IClassTransformer> transformers;
+    // Others look up the name transformer in the transformer list, so it needs to stay visible
+    @Nullable private final IClassNameTransformer nameTransformer;
+    private final Path dir;
+    // Names of the cached classes used during this run, the others are deleted on shutdown
+    private final Set<String> usedFiles = ConcurrentHashMap.newKeySet();
+
+    private CachingTransformer(List<IClassTransformer> transformers, Path dir) {
+        this.transformers = transformers;
+        this.nameTransformer = (IClassNameTransformer) transformers.stream()
+                .filter(transformer -> transformer instanceof IClassNameTransformer)
+                .findFirst().orElse(null);
+        this.dir = dir;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void install(LaunchClassLoader loader, Path cacheDir) {
+        final List<IClassTransformer> transformers;
+        try {
+            Field field = LaunchClassLoader.class.getDeclaredField("transformers");
+            field.setAccessible(true);
+            transformers = (List<IClassTransformer>) field.get(loader);
+        } catch (ReflectiveOperationException e) {
+            VanillaLaunch.getLogger().warn("Failed to install the transformed class cache", e);
+            return;
+        }
+
+        // Mixin keeps state about the classes it transforms and runs the transformers before it on its own,
+        // so only the transformers up to the Mixin transformer can be cached
+        int count = 0;
+        while (count < transformers.size() && !transformers.get(count).getClass().getName().startsWith(MIXIN_PACKAGE)) {
+            count++;
+        }
+
+        if (count == 0) {
+            return;
+        }
+
+        final List<IClassTransformer> wrapped = new ArrayList<>(transformers.subList(0, count));
+        final Path dir = cacheDir.resolve(CLASSES_DIR);
+        try {
+            prepare(dir, getConfigurationHash(loader, wrapped));
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().warn("Failed to prepare the transformed class cache in {}", dir, e);
+            return;
+        }
+
+        final CachingTransformer transformer = new CachingTransformer(wrapped, dir);
+        transformers.subList(0, count).clear();
+        transformers.add(0, transformer);
+        Runtime.getRuntime().addShutdownHook(new Thread(transformer::prune, "Class Cache Cleanup"));
+    }
+
+    private static HashCode getConfigurationHash(LaunchClassLoader loader, List<IClassTransformer> transformers) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putInt(VERSION);
+
+        for (IClassTransformer transformer : transformers) {
+            hasher.putString(transformer.getClass().getName(), UTF_8);
+        }
+
+        hasher.putBytes(AccessTransformers.getHash().asBytes());
+
+        // The mappings, the Mixin configurations and the transformers themselves are part of the JARs on the classpath
+        for (URL source : loader.getSources()) {
+            hasher.putString(source.toString(), UTF_8);
+            try {
+                putFile(hasher, Paths.get(source.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException ignored) {
+                // Not a file, the URL is enough to notice changes
+            }
+        }
+
+        // Plugin JARs are only added to the classpath after the cache is installed, but they can contain Mixin configurations
+        final List<PluginCandidate> plugins = new ArrayList<>(VanillaLaunchPluginManager.getCandidates());
+        plugins.sort(Comparator.comparing(PluginCandidate::getId));
+        for (PluginCandidate plugin : plugins) {
+            hasher.putString(plugin.getId(), UTF_8);
+            plugin.getSource().ifPresent(path -> {
+                hasher.putString(path.toAbsolutePath().toString(), UTF_8);
+                putFile(hasher, path);
+            });
+        }
+
+        return hasher.hash();
+    }
+
+    private static void putFile(Hasher hasher, Path path) {
+        try {
+            if (Files.isRegularFile(path)) {
+                hasher.putLong(Files.size(path));
+                hasher.putLong(Files.getLastModifiedTime(path).toMillis());
+            }
+        } catch (IOException ignored) {
+            // The file is still part of the hash through its name
+        }
+    }
+
+    private static void prepare(Path dir, HashCode hash) throws IOException {
+        Files.createDirectories(dir);
+
+        final Path config = dir.resolve(CONFIG_FILE);
+        final String expected = hash.toString();
+        if (Files.exists(config) && new String(Files.readAllBytes(config), UTF_8).equals(expected)) {
+            return;
+        }
+
+        // The configuration has changed, so all cached classes are outdated
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                Files.delete(path);
+            }
+        }
+
+        Files.write(config, expected.getBytes(UTF_8));
+    }
+
+    @Override @Nullable
+    public byte[] transform(String name, String transformedName, @Nullable byte[] bytes) {
+        if (bytes == null) {
+            return runTransformers(name, transformedName, null);
+        }
+
+        final HashCode hash = hashFunction.hashBytes(bytes);
+        final String fileName = transformedName + CLASS_EXTENSION;
+        final Path file = this.dir.resolve(fileName);
+        this.usedFiles.add(fileName);
+
+        byte[] result = read(file, hash);
+        if (result != null) {
+            return result;
+        }
+
+        result = runTransformers(name, transformedName, bytes);
+        if (result != null) {
+            write(file, hash, result);
+        }
+        return result;
+    }
+
+    // Removes the classes that were not used during this run, for example from removed plugins
+    private void prune() {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dir, "*" + CLASS_EXTENSION)) {
+            for (Path path : stream) {
+                if (!this.usedFiles.contains(path.getFileName().toString())) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().debug("Failed to clean up the transformed class cache in {}", this.dir, e);
+        }
+    }
+
+    @Override
+    public String remapClassName(String name) {
+        return this.nameTransformer != null ? this.nameTransformer.remapClassName(name) : name;
+    }
+
+    @Override
+    public String unmapClassName(String name) {
+        return this.nameTransformer != null ? this.nameTransformer.unmapClassName(name) : name;
+    }
+
+    @Nullable
+    private byte[] runTransformers(String name, String transformedName, @Nullable byte[] bytes) {
+        for (IClassTransformer transformer : this.transformers) {
+            bytes = transformer.transform(name, transformedName, bytes);
+        }
+        return bytes;
+    }
+
+    @Nullable
+    private static byte[] read(Path file, HashCode hash) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length > HASH_LENGTH && Arrays.equals(Arrays.copyOf(bytes, HASH_LENGTH), hash.asBytes())) {
+                return Arrays.copyOfRange(bytes, HASH_LENGTH, bytes.length);
+            }
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().debug("Failed to read cached class from {}", file, e);
+        }
+
+        return null;
+    }
+
+    private void write(Path file, HashCode hash, byte[] bytes) {
+        try {
+            AtomicFiles.write(file, out -> {
+                out.write(hash.asBytes());
+                out.write(bytes);
+            });
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().debug("Failed to cache transformed class in {}", file, e);
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.transformer.deobf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.objectweb.asm.Opcodes.ASM5;
+
+import com.google.common.base.Throwables;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import net.minecraft.launchwrapper.Launch;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.spongepowered.server.launch.AtomicFiles;
+import org.spongepowered.server.launch.VanillaLaunch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The super classes, interfaces and fields of the classes in the Minecraft
+ * server JAR. The classes are read in parallel once and then cached, so the
+ * inherited member mappings can be built without reading them again.
+ */
+final class ClassHierarchy {
+
+    private static final int MAGIC = 0x53524748; // SRGH
+    private static final int VERSION = 1;
+
+    private static final String[] NO_STRINGS = new String[0];
+
+    private final Map<String, Entry> classes;
+
+    private ClassHierarchy(Map<String, Entry> classes) {
+        this.classes = classes;
+    }
+
+    Set<String> getClassNames() {
+        return this.classes.keySet();
+    }
+
+    @Nullable
+    Entry get(String name) {
+        return this.classes.get(name);
+    }
+
+    static final class Entry {
+
+        @Nullable final String superName;
+        final String[] interfaces;
+        // Pairs of field name and descriptor
+        final String[] fields;
+
+        Entry(@Nullable String superName, String[] interfaces, String[] fields) {
+            this.superName = superName;
+            this.interfaces = interfaces;
+            this.fields = fields;
+        }
+
+        static Entry read(ClassReader reader) {
+            final List<String> fields = new ArrayList<>();
+            reader.accept(new ClassVisitor(ASM5) {
+
+                @Override
+                public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+                    fields.add(name);
+                    fields.add(desc);
+                    return null;
+                }
+
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+            String[] interfaces = reader.getInterfaces();
+            return new Entry(reader.getSuperName(), interfaces != null ? interfaces : NO_STRINGS, fields.toArray(new String[fields.size()]));
+        }
+
+    }
+
+    static ClassHierarchy load(Collection<String> classNames, Path cacheFile) {
+        HashCode key = getKey(classNames);
+        if (key != null && Files.exists(cacheFile)) {
+            try {
+                ClassHierarchy hierarchy = read(cacheFile, key);
+                if (hierarchy != null) {
+                    return hierarchy;
+                }
+            } catch (IOException | RuntimeException e) {
+                VanillaLaunch.getLogger().debug("Ignoring invalid class hierarchy cache in {}", cacheFile, e);
+            }
+        }
+
+        ClassHierarchy hierarchy = compute(classNames);
+        if (key != null) {
+            try {
+                hierarchy.write(cacheFile, key);
+            } catch (IOException e) {
+                VanillaLaunch.getLogger().warn("Failed to write class hierarchy cache to {}", cacheFile, e);
+            }
+        }
+        return hierarchy;
+    }
+
+    private static ClassHierarchy compute(Collection<String> classNames) {
+        final Map<String, Entry> classes = new ConcurrentHashMap<>(classNames.size());
+        classNames.parallelStream().forEach(name -> {
+            byte[] bytes;
+            try {
+                bytes = Launch.classLoader.getClassBytes(name);
+            } catch (IOException e) {
+                throw Throwables.propagate(e);
+            }
+
+            if (bytes != null) {
+                classes.put(name, Entry.read(new ClassReader(bytes)));
+            }
+        });
+        return new ClassHierarchy(new HashMap<>(classes));
+    }
+
+    // Identifies the server JAR and the set of mapped classes
+    @Nullable
+    private static HashCode getKey(Collection<String> classNames) {
+        if (classNames.isEmpty()) {
+            return null;
+        }
+
+        String[] names = classNames.toArray(new String[classNames.size()]);
+        Arrays.sort(names);
+
+        try {
+            URL url = Launch.classLoader.findResource(names[0].concat(".class"));
+            if (url == null) {
+                return null;
+            }
+
+            URLConnection connection = url.openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                return null;
+            }
+
+            Path jar = Paths.get(((JarURLConnection) connection).getJarFileURL().toURI());
+
+            Hasher hasher = Hashing.sha1().newHasher();
+            hasher.putString(jar.toAbsolutePath().toString(), UTF_8);
+            hasher.putLong(Files.size(jar));
+            hasher.putLong(Files.getLastModifiedTime(jar).toMillis());
+            for (String name : names) {
+                hasher.putString(name, UTF_8).putChar('\n');
+            }
+            return hasher.hash();
+        } catch (Exception e) {
+            VanillaLaunch.getLogger().debug("Unable to locate the server JAR for the class hierarchy cache", e);
+            return null;
+        }
+    }
+
+    @Nullable
+    private static ClassHierarchy read(Path file, HashCode key) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+
+            byte[] actualKey = new byte[in.readUnsignedByte()];
+            in.readFully(actualKey);
+            if (!Arrays.equals(key.asBytes(), actualKey)) {
+                return null;
+            }
+
+            int count = in.readInt();
+            Map<String, Entry> classes = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                String superName = in.readUTF();
+                String[] interfaces = readStrings(in);
+                String[] fields = readStrings(in);
+                classes.put(name, new Entry(superName.isEmpty() ? null : superName, interfaces, fields));
+            }
+            return new ClassHierarchy(classes);
+        }
+    }
+
+    private static String[] readStrings(DataInputStream in) throws IOException {
+        int length = in.readUnsignedShort();
+        if (length == 0) {
+            return NO_STRINGS;
+        }
+
+        String[] result = new String[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = in.readUTF();
+        }
+        return result;
+    }
+
+    private void write(Path file, HashCode key) throws IOException {
+        Files.createDirectories(file.getParent());
+
+        AtomicFiles.write(file, stream -> {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                byte[] keyBytes = key.asBytes();
+                out.writeByte(keyBytes.length);
+                out.write(keyBytes);
+
+                out.writeInt(this.classes.size());
+                for (Map.Entry<String, Entry> entry : this.classes.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue().superName != null ? entry.getValue().superName : "");
+                    writeStrings(out, entry.getValue().interfaces);
+                    writeStrings(out, entry.getValue().fields);
+                }
+            }
+        });
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] strings) throws IOException {
+        out.writeShort(strings.length);
+        for (String s : strings) {
+            out.writeUTF(s);
+        }
+    }
+
+}
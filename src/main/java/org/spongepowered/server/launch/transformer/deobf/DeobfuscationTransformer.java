@@ -31,10 +31,13 @@
 import org.objectweb.asm.commons.ClassRemapper;
 import org.objectweb.asm.commons.Remapper;
 import org.spongepowered.server.launch.VanillaLaunch;
+import org.spongepowered.server.launch.transformer.at.AccessTransformer;
 
 import javax.annotation.Nullable;
 
-abstract class DeobfuscationTransformer extends Remapper implements IClassTransformer, SrgRemapper {
+public abstract class DeobfuscationTransformer extends Remapper implements IClassTransformer, SrgRemapper {
+
+    @Nullable private AccessTransformer accessTransformer;
 
     DeobfuscationTransformer() {
         VanillaLaunch.setRemapper(this);
@@ -48,10 +51,21 @@ public final byte[] transform(String name, String transformedName, @Nullable byt
 
         ClassReader reader = new ClassReader(bytes);
         ClassWriter writer = new ClassWriter(reader, 0);
-        reader.accept(createClassRemapper(reader, writer), 0);
+
+        ClassVisitor cv = writer;
+        if (this.accessTransformer != null) {
+            // Access transformers are applied to the de-obfuscated class in the same pass
+            cv = this.accessTransformer.createClassVisitor(transformedName, cv);
+        }
+
+        reader.accept(createClassRemapper(reader, cv), 0);
         return writer.toByteArray();
     }
 
+    public void setAccessTransformer(AccessTransformer accessTransformer) {
+        this.accessTransformer = accessTransformer;
+    }
+
     ClassVisitor createClassRemapper(ClassReader reader, ClassVisitor cv) {
         return new ClassRemapper(cv, this);
     }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.transformer.deobf;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The field and method mappings of a class, including the ones inherited
+ * from its super classes and interfaces. Inherited mappings are looked up
+ * in the parents instead of being copied to each class.
+ */
+final class MemberMappings {
+
+    static final MemberMappings EMPTY = new MemberMappings(ImmutableMap.of(), ImmutableMap.of(), new MemberMappings[0]);
+
+    // Member name -> pairs of descriptor and mapped name
+    private final Map<String, String[]> fields;
+    private final Map<String, String[]> methods;
+    // Ordered by precedence, i.e. the super class comes last
+    private final MemberMappings[] parents;
+
+    private MemberMappings(Map<String, String[]> fields, Map<String, String[]> methods, MemberMappings[] parents) {
+        this.fields = fields;
+        this.methods = methods;
+        this.parents = parents;
+    }
+
+    /**
+     * Creates the mappings for a class.
+     *
+     * @param fields The fields declared in the class
+     * @param methods The methods declared in the class
+     * @param superClass The mappings of the super class
+     * @param interfaces The mappings of the interfaces, in declaration order
+     * @return The member mappings
+     */
+    static MemberMappings create(Map<String, String[]> fields, Map<String, String[]> methods, @Nullable MemberMappings superClass,
+            MemberMappings[] interfaces) {
+        int count = 0;
+        MemberMappings[] parents = new MemberMappings[interfaces.length + 1];
+        // Members of the last interface override the ones of the other interfaces and the super class
+        for (int i = interfaces.length - 1; i >= 0; i--) {
+            if (interfaces[i] != EMPTY) {
+                parents[count++] = interfaces[i];
+            }
+        }
+        if (superClass != null && superClass != EMPTY) {
+            parents[count++] = superClass;
+        }
+
+        if (fields.isEmpty() && methods.isEmpty()) {
+            if (count == 0) {
+                return EMPTY;
+            } else if (count == 1) {
+                // Nothing to add, so the mappings of the parent can be used directly
+                return parents[0];
+            }
+        }
+
+        MemberMappings[] result = new MemberMappings[count];
+        System.arraycopy(parents, 0, result, 0, count);
+        return new MemberMappings(ImmutableMap.copyOf(fields), ImmutableMap.copyOf(methods), result);
+    }
+
+    /**
+     * Adds a member to a map of declared members.
+     *
+     * @param members The map of members to add to
+     * @param name The name of the member
+     * @param desc The descriptor of the member
+     * @param mappedName The mapped name of the member
+     */
+    static void add(Map<String, String[]> members, String name, String desc, String mappedName) {
+        String[] entries = members.get(name);
+        if (entries == null) {
+            entries = new String[2];
+        } else {
+            entries = Arrays.copyOf(entries, entries.length + 2);
+        }
+
+        entries[entries.length - 2] = desc;
+        entries[entries.length - 1] = mappedName;
+        members.put(name, entries);
+    }
+
+    @Nullable
+    String getField(String name, String desc) {
+        String result = find(this.fields, name, desc);
+        if (result == null) {
+            for (MemberMappings parent : this.parents) {
+                result = parent.getField(name, desc);
+                if (result != null) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    String getMethod(String name, String desc) {
+        String result = find(this.methods, name, desc);
+        if (result == null) {
+            for (MemberMappings parent : this.parents) {
+                result = parent.getMethod(name, desc);
+                if (result != null) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static String find(Map<String, String[]> members, String name, String desc) {
+        String[] entries = members.get(name);
+        if (entries != null) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (entries[i].equals(desc)) {
+                    return entries[i + 1];
+                }
+            }
+        }
+        return null;
+    }
+
+}
@@ -29,49 +29,51 @@
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Maps;
 import net.minecraft.launchwrapper.IClassNameTransformer;
 import net.minecraft.launchwrapper.Launch;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.commons.ClassRemapper;
-import org.objectweb.asm.tree.ClassNode;
-import org.objectweb.asm.tree.FieldNode;
-import org.spongepowered.server.launch.transformer.deobf.reader.SrgReader;
+import org.spongepowered.server.launch.VanillaLaunch;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
 public final class NotchDeobfuscationTransformer extends DeobfuscationTransformer implements IClassNameTransformer {
 
-    private final ImmutableBiMap<String, String> classes;
-    private final ImmutableTable<String, String, String> rawFields;
-    private final ImmutableTable<String, String, String> rawMethods;
+    private static final String MAPPINGS_CACHE_FILE = "mappings.bin";
+    private static final String HIERARCHY_CACHE_FILE = "hierarchy.bin";
 
-    private final Map<String, Map<String, String>> fields;
-    private final Map<String, Map<String, String>> methods;
+    private final ImmutableBiMap<String, String> classes;
+    private final SrgMappings mappings;
 
-    private final Set<String> loadedClasses = new HashSet<>();
+    private final CompletableFuture<Map<String, MemberMappings>> precomputedMembers;
+    // Members of classes outside of the server JAR, each computed once by the first thread that needs them
+    private final ConcurrentMap<String, CompletableFuture<MemberMappings>> members = new ConcurrentHashMap<>();
 
     public NotchDeobfuscationTransformer() throws IOException {
         URL mappings = (URL) Launch.blackboard.get("vanilla.srg_mappings");
 
-        SrgReader reader = new SrgReader();
-        reader.read(mappings);
-
-        this.classes = reader.getClasses();
-        this.rawFields = reader.getFields();
-        this.rawMethods = reader.getMethods();
-
-        this.fields = Maps.newHashMapWithExpectedSize(this.rawFields.size());
-        this.methods = Maps.newHashMapWithExpectedSize(this.rawMethods.size());
+        this.mappings = SrgMappings.load(mappings, VanillaLaunch.getCacheDir().resolve(MAPPINGS_CACHE_FILE));
+        this.classes = this.mappings.getClasses();
+
+        // Build the member mappings of all Minecraft classes in the background
+        final Path hierarchyCache = VanillaLaunch.getCacheDir().resolve(HIERARCHY_CACHE_FILE);
+        this.precomputedMembers = CompletableFuture.supplyAsync(
+                () -> precomputeMembers(ClassHierarchy.load(this.classes.keySet(), hierarchyCache)))
+                .exceptionally(e -> {
+                    VanillaLaunch.getLogger().warn("Failed to build the class hierarchy of the server, falling back to loading it on demand", e);
+                    return ImmutableMap.of();
+                });
     }
 
     @Override
@@ -109,51 +111,14 @@ public String unmap(String className) {
 
     @Override
     public String mapFieldName(String owner, String fieldName, String desc) {
-        Map<String, String> fields = getFieldMap(owner);
-        if (fields != null) {
-            String name = fields.get(fieldName + ':' + desc);
-            if (name != null) {
-                return name;
-            }
-        }
-
-        return fieldName;
-    }
-
-    @Nullable
-    private Map<String, String> getFieldMap(String owner) {
-        Map<String, String> result = this.fields.get(owner);
-        if (result != null) {
-            return result;
-        }
-
-        loadSuperMaps(owner);
-        return this.fields.get(owner);
+        String name = getMembers(owner).getField(fieldName, desc);
+        return name != null ? name : fieldName;
     }
 
-
     @Override
     public String mapMethodName(String owner, String methodName, String desc) {
-        Map<String, String> methods = getMethodMap(owner);
-        if (methods != null) {
-            String name = methods.get(methodName.concat(desc));
-            if (name != null) {
-                return name;
-            }
-        }
-
-        return methodName;
-    }
-
-    @Nullable
-    private Map<String, String> getMethodMap(String owner) {
-        Map<String, String> result = this.methods.get(owner);
-        if (result != null) {
-            return result;
-        }
-
-        loadSuperMaps(owner);
-        return this.methods.get(owner);
+        String name = getMembers(owner).getMethod(methodName, desc);
+        return name != null ? name : methodName;
     }
 
     @Override
@@ -173,75 +138,112 @@ public String unmapClassName(String className) {
     }
 
 
-    private void loadSuperMaps(String name) {
-        if (loadedClasses.contains(name)) {
-            return;
-        }
-
-        loadedClasses.add(name);
+    private MemberMappings getMembers(String owner) {
+        return getMembers(owner, null);
+    }
 
-        byte[] bytes;
-        try {
-            bytes = Launch.classLoader.getClassBytes(name);
-        } catch (IOException e) {
-            throw Throwables.propagate(e);
+    private MemberMappings getMembers(String owner, @Nullable ClassReader reader) {
+        MemberMappings result = this.precomputedMembers.join().get(owner);
+        if (result != null) {
+            return result;
         }
 
-        if (bytes != null) {
-            ClassReader reader = new ClassReader(bytes);
-            createSuperMaps(reader, name, reader.getSuperName(), reader.getInterfaces());
+        CompletableFuture<MemberMappings> future = this.members.get(owner);
+        if (future == null) {
+            final CompletableFuture<MemberMappings> created = new CompletableFuture<>();
+            future = this.members.putIfAbsent(owner, created);
+            if (future == null) {
+                // The members of the parents are computed outside of the map, so other classes can be computed concurrently
+                try {
+                    created.complete(createMembers(owner, reader));
+                } catch (Throwable e) {
+                    this.members.remove(owner, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+                return created.join();
+            }
         }
-    }
 
-    private void addInheritedMembers(String parent, Map<String, String> fields, Map<String, String> methods) {
-        loadSuperMaps(parent);
-        Map<String, String> m;
-        m = this.fields.get(parent);
-        if (m != null) {
-            fields.putAll(m);
-        }
-        m = this.methods.get(parent);
-        if (m != null) {
-            methods.putAll(m);
-        }
+        return future.join();
     }
 
-    private void createSuperMaps(ClassReader reader, String name, @Nullable String superName, @Nullable String[] interfaces) {
-        loadedClasses.add(name);
+    private MemberMappings createMembers(String name, @Nullable ClassReader reader) {
+        if (reader == null) {
+            byte[] bytes;
+            try {
+                bytes = Launch.classLoader.getClassBytes(name);
+            } catch (IOException e) {
+                throw Throwables.propagate(e);
+            }
 
-        Map<String, String> fields = new HashMap<>();
-        Map<String, String> methods = new HashMap<>();
+            if (bytes == null) {
+                return MemberMappings.EMPTY;
+            }
 
-        if (superName != null) {
-            addInheritedMembers(superName, fields, methods);
+            reader = new ClassReader(bytes);
         }
 
-        if (interfaces != null) {
-            for (String parent : interfaces) {
-                addInheritedMembers(parent, fields, methods);
-            }
+        ClassHierarchy.Entry entry = ClassHierarchy.Entry.read(reader);
+        MemberMappings superClass = entry.superName != null ? getMembers(entry.superName) : null;
+        MemberMappings[] interfaces = new MemberMappings[entry.interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = getMembers(entry.interfaces[i]);
         }
 
-        Map<String, String> raw = this.rawFields.row(name);
-        if (!raw.isEmpty()) {
-            // Resolve field descriptors
-            ClassNode classNode = new ClassNode();
-            reader.accept(classNode, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return resolveMembers(name, entry, superClass, interfaces);
+    }
 
-            for (FieldNode fieldNode : classNode.fields) {
-                String newName = raw.get(fieldNode.name);
+    private MemberMappings resolveMembers(String name, ClassHierarchy.Entry entry, @Nullable MemberMappings superClass,
+            MemberMappings[] interfaces) {
+        Map<String, String[]> fields = new HashMap<>();
+        if (this.mappings.hasFields(name)) {
+            // Resolve field descriptors
+            for (int i = 0; i < entry.fields.length; i += 2) {
+                String newName = this.mappings.getField(name, entry.fields[i]);
                 if (newName != null) {
-                    fields.put(fieldNode.name + ':' + fieldNode.desc, newName);
+                    MemberMappings.add(fields, entry.fields[i], entry.fields[i + 1], newName);
                 }
             }
         }
 
-        methods.putAll(this.rawMethods.row(name));
+        Map<String, String[]> methods = new HashMap<>();
+        this.mappings.forEachMethod(name, (methodName, desc, newName) -> MemberMappings.add(methods, methodName, desc, newName));
+
+        return MemberMappings.create(fields, methods, superClass, interfaces);
+    }
 
-        this.fields.put(name, ImmutableMap.copyOf(fields));
-        this.methods.put(name, ImmutableMap.copyOf(methods));
+    // Called on a background thread, only uses the hierarchy of the server JAR
+    private Map<String, MemberMappings> precomputeMembers(ClassHierarchy hierarchy) {
+        Map<String, MemberMappings> result = Maps.newHashMapWithExpectedSize(hierarchy.getClassNames().size());
+        for (String name : hierarchy.getClassNames()) {
+            precomputeMembers(hierarchy, name, result);
+        }
+        return result;
     }
 
+    private MemberMappings precomputeMembers(ClassHierarchy hierarchy, String name, Map<String, MemberMappings> result) {
+        MemberMappings members = result.get(name);
+        if (members != null) {
+            return members;
+        }
+
+        ClassHierarchy.Entry entry = hierarchy.get(name);
+        if (entry == null) {
+            // Classes outside of the server JAR (e.g. java.lang.Object) have no mappings
+            return MemberMappings.EMPTY;
+        }
+
+        MemberMappings superClass = entry.superName != null ? precomputeMembers(hierarchy, entry.superName, result) : null;
+        MemberMappings[] interfaces = new MemberMappings[entry.interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = precomputeMembers(hierarchy, entry.interfaces[i], result);
+        }
+
+        members = resolveMembers(name, entry, superClass, interfaces);
+        result.put(name, members);
+        return members;
+    }
 
     @Override
     ClassVisitor createClassRemapper(ClassReader reader, ClassVisitor cv) {
@@ -259,7 +261,7 @@ private NotchClassRemapper(ClassReader reader, ClassVisitor cv) {
 
         @Override
         public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
-            createSuperMaps(this.reader, name, superName, interfaces);
+            getMembers(name, this.reader);
             super.visit(version, access, name, signature, superName, interfaces);
         }
     }
@@ -0,0 +1,360 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.launch.transformer.deobf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.spongepowered.server.launch.AtomicFiles;
+import org.spongepowered.server.launch.VanillaLaunch;
+import org.spongepowered.server.launch.transformer.deobf.reader.SrgReader;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The SRG mappings in a compact, int-indexed form. The mappings are parsed
+ * from the text SRG file once and then stored in a binary cache file that
+ * is memory-mapped on the next startups.
+ */
+final class SrgMappings {
+
+    private static final int MAGIC = 0x53524743; // SRGC
+    private static final int VERSION = 1;
+
+    private static final int NOT_FOUND = -1;
+
+    // All names are stored only once and referenced by their index
+    private final String[] strings;
+
+    private final ImmutableBiMap<String, String> classes;
+
+    private final TObjectIntMap<String> owners;
+    // Pairs of name and mapped name, indexed by fieldOffsets[owner]
+    private final int[] fieldOffsets;
+    private final int[] fields;
+    // Triples of name, descriptor and mapped name, indexed by methodOffsets[owner]
+    private final int[] methodOffsets;
+    private final int[] methods;
+
+    private SrgMappings(String[] strings, ImmutableBiMap<String, String> classes, TObjectIntMap<String> owners,
+            int[] fieldOffsets, int[] fields, int[] methodOffsets, int[] methods) {
+        this.strings = strings;
+        this.classes = classes;
+        this.owners = owners;
+        this.fieldOffsets = fieldOffsets;
+        this.fields = fields;
+        this.methodOffsets = methodOffsets;
+        this.methods = methods;
+    }
+
+    ImmutableBiMap<String, String> getClasses() {
+        return this.classes;
+    }
+
+    boolean hasFields(String owner) {
+        int index = this.owners.get(owner);
+        return index != NOT_FOUND && this.fieldOffsets[index] != this.fieldOffsets[index + 1];
+    }
+
+    @Nullable
+    String getField(String owner, String name) {
+        int index = this.owners.get(owner);
+        if (index == NOT_FOUND) {
+            return null;
+        }
+
+        for (int i = this.fieldOffsets[index]; i < this.fieldOffsets[index + 1]; i += 2) {
+            if (this.strings[this.fields[i]].equals(name)) {
+                return this.strings[this.fields[i + 1]];
+            }
+        }
+
+        return null;
+    }
+
+    void forEachMethod(String owner, MethodConsumer consumer) {
+        int index = this.owners.get(owner);
+        if (index == NOT_FOUND) {
+            return;
+        }
+
+        for (int i = this.methodOffsets[index]; i < this.methodOffsets[index + 1]; i += 3) {
+            consumer.accept(this.strings[this.methods[i]], this.strings[this.methods[i + 1]], this.strings[this.methods[i + 2]]);
+        }
+    }
+
+    @FunctionalInterface
+    interface MethodConsumer {
+
+        void accept(String name, String desc, String mappedName);
+
+    }
+
+    static SrgMappings load(URL resource, @Nullable Path cacheFile) throws IOException {
+        if (cacheFile == null) {
+            return parse(resource);
+        }
+
+        HashCode hash = Resources.asByteSource(resource).hash(Hashing.sha1());
+        if (Files.exists(cacheFile)) {
+            try {
+                SrgMappings mappings = read(cacheFile, hash);
+                if (mappings != null) {
+                    return mappings;
+                }
+            } catch (IOException | RuntimeException e) {
+                VanillaLaunch.getLogger().debug("Ignoring invalid mapping cache in {}", cacheFile, e);
+            }
+        }
+
+        SrgMappings mappings = parse(resource);
+        try {
+            mappings.write(cacheFile, hash);
+        } catch (IOException e) {
+            VanillaLaunch.getLogger().warn("Failed to write mapping cache to {}", cacheFile, e);
+        }
+        return mappings;
+    }
+
+    private static SrgMappings parse(URL resource) throws IOException {
+        SrgReader reader = new SrgReader();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(resource.openStream(), UTF_8))) {
+            reader.read(in);
+        }
+
+        ImmutableTable<String, String, String> rawFields = reader.getFields();
+        ImmutableTable<String, String, String> rawMethods = reader.getMethods();
+
+        Builder builder = new Builder();
+        ImmutableBiMap.Builder<String, String> classes = ImmutableBiMap.builder();
+        for (Map.Entry<String, String> entry : reader.getClasses().entrySet()) {
+            classes.put(builder.intern(entry.getKey()), builder.intern(entry.getValue()));
+        }
+
+        Map<String, Integer> owners = new LinkedHashMap<>();
+        for (String owner : rawFields.rowKeySet()) {
+            owners.putIfAbsent(owner, owners.size());
+        }
+        for (String owner : rawMethods.rowKeySet()) {
+            owners.putIfAbsent(owner, owners.size());
+        }
+
+        TObjectIntMap<String> ownerIndex = new TObjectIntHashMap<>(owners.size(), 0.5f, NOT_FOUND);
+        int[] fieldOffsets = new int[owners.size() + 1];
+        int[] fields = new int[rawFields.size() * 2];
+        int[] methodOffsets = new int[owners.size() + 1];
+        int[] methods = new int[rawMethods.size() * 3];
+
+        int f = 0;
+        int m = 0;
+        for (Map.Entry<String, Integer> entry : owners.entrySet()) {
+            String owner = entry.getKey();
+            int index = entry.getValue();
+            ownerIndex.put(builder.intern(owner), index);
+
+            fieldOffsets[index] = f;
+            for (Map.Entry<String, String> field : rawFields.row(owner).entrySet()) {
+                fields[f++] = builder.add(field.getKey());
+                fields[f++] = builder.add(field.getValue());
+            }
+
+            methodOffsets[index] = m;
+            for (Map.Entry<String, String> method : rawMethods.row(owner).entrySet()) {
+                // The key is the method name followed by the descriptor
+                String key = method.getKey();
+                int pos = key.indexOf('(');
+                methods[m++] = builder.add(key.substring(0, pos));
+                methods[m++] = builder.add(key.substring(pos));
+                methods[m++] = builder.add(method.getValue());
+            }
+        }
+        fieldOffsets[owners.size()] = f;
+        methodOffsets[owners.size()] = m;
+
+        return new SrgMappings(builder.build(), classes.build(), ownerIndex, fieldOffsets, fields, methodOffsets, methods);
+    }
+
+    @Nullable
+    private static SrgMappings read(Path file, HashCode hash) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+            return null;
+        }
+
+        byte[] expectedHash = hash.asBytes();
+        byte[] actualHash = new byte[buf.get()];
+        buf.get(actualHash);
+        if (!Arrays.equals(expectedHash, actualHash)) {
+            return null;
+        }
+
+        String[] strings = new String[buf.getInt()];
+        byte[] bytes = new byte[64];
+        for (int i = 0; i < strings.length; i++) {
+            int length = buf.getShort() & 0xFFFF;
+            if (length > bytes.length) {
+                bytes = new byte[length];
+            }
+            buf.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, UTF_8);
+        }
+
+        ImmutableBiMap.Builder<String, String> classes = ImmutableBiMap.builder();
+        for (int i = buf.getInt(); i > 0; i--) {
+            classes.put(strings[buf.getInt()], strings[buf.getInt()]);
+        }
+
+        int ownerCount = buf.getInt();
+        TObjectIntMap<String> owners = new TObjectIntHashMap<>(ownerCount, 0.5f, NOT_FOUND);
+        for (int i = 0; i < ownerCount; i++) {
+            owners.put(strings[buf.getInt()], i);
+        }
+
+        int[] fieldOffsets = readInts(buf, ownerCount + 1);
+        int[] fields = readInts(buf, buf.getInt());
+        int[] methodOffsets = readInts(buf, ownerCount + 1);
+        int[] methods = readInts(buf, buf.getInt());
+
+        return new SrgMappings(strings, classes.build(), owners, fieldOffsets, fields, methodOffsets, methods);
+    }
+
+    private static int[] readInts(ByteBuffer buf, int length) {
+        int[] result = new int[length];
+        buf.asIntBuffer().get(result);
+        buf.position(buf.position() + length * 4);
+        return result;
+    }
+
+    private void write(Path file, HashCode hash) throws IOException {
+        Files.createDirectories(file.getParent());
+
+        TObjectIntMap<String> ids = new TObjectIntHashMap<>(this.strings.length, 0.5f, NOT_FOUND);
+        for (int i = 0; i < this.strings.length; i++) {
+            ids.put(this.strings[i], i);
+        }
+
+        String[] owners = new String[this.owners.size()];
+        this.owners.forEachEntry((owner, index) -> {
+            owners[index] = owner;
+            return true;
+        });
+
+        AtomicFiles.write(file, stream -> {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                byte[] hashBytes = hash.asBytes();
+                out.writeByte(hashBytes.length);
+                out.write(hashBytes);
+
+                out.writeInt(this.strings.length);
+                for (String s : this.strings) {
+                    byte[] bytes = s.getBytes(UTF_8);
+                    out.writeShort(bytes.length);
+                    out.write(bytes);
+                }
+
+                out.writeInt(this.classes.size());
+                for (Map.Entry<String, String> entry : this.classes.entrySet()) {
+                    out.writeInt(ids.get(entry.getKey()));
+                    out.writeInt(ids.get(entry.getValue()));
+                }
+
+                out.writeInt(owners.length);
+                for (String owner : owners) {
+                    out.writeInt(ids.get(owner));
+                }
+
+                writeInts(out, this.fieldOffsets);
+                out.writeInt(this.fields.length);
+                writeInts(out, this.fields);
+                writeInts(out, this.methodOffsets);
+                out.writeInt(this.methods.length);
+                writeInts(out, this.methods);
+            }
+        });
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static final class Builder {
+
+        private final List<String> strings = new ArrayList<>();
+        private final TObjectIntMap<String> ids = new TObjectIntHashMap<>(16, 0.5f, NOT_FOUND);
+
+        int add(String s) {
+            int id = this.ids.get(s);
+            if (id == NOT_FOUND) {
+                id = this.strings.size();
+                this.strings.add(s);
+                this.ids.put(s, id);
+            }
+            return id;
+        }
+
+        String intern(String s) {
+            return this.strings.get(add(s));
+        }
+
+        String[] build() {
+            return this.strings.toArray(new String[this.strings.size()]);
+        }
+
+    }
+
+}
@@ -26,10 +26,8 @@
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.world.World;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
-import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -37,44 +35,49 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityDummy;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.server.interfaces.IMixinConstructedEntity;
+import org.spongepowered.server.interfaces.IMixinCustomDataHolder;
+import org.spongepowered.server.nbt.CustomDataCompound;
 
 import javax.annotation.Nullable;
 
 @Mixin(Entity.class)
-public abstract class MixinEntity implements IMixinEntity {
+public abstract class MixinEntity implements IMixinEntity, IMixinConstructedEntity, IMixinCustomDataHolder {
 
-    @Nullable private NBTTagCompound customEntityData;
+    private final CustomDataCompound customEntityData = new CustomDataCompound();
+    private boolean constructEventPosted;
 
-    @Inject(method = "<init>(Lnet/minecraft/world/World;)V", at = @At("RETURN"), remap = false)
-    private void onConstructed(World world, CallbackInfo ci) {
-        if (!((Object) this instanceof EntityDummy)) {
-            SpongeImpl.postEvent(SpongeEventFactory.createConstructEntityEventPost(Cause.of(NamedCause.source(world)),
-                    this, this.getType(), this.getTransform()));
+    @Override
+    public void postConstructEvent(Cause cause) {
+        // The event is posted when the entity is added to a world instead of in the constructor,
+        // so entities that never end up in a world do not create the event
+        if (!this.constructEventPosted && !((Object) this instanceof EntityDummy)) {
+            this.constructEventPosted = true;
+            SpongeImpl.postEvent(SpongeEventFactory.createConstructEntityEventPost(cause, this, this.getType(), this.getTransform()));
         }
     }
 
     @Override
     public final NBTTagCompound getEntityData() {
-        if (this.customEntityData == null) {
-            this.customEntityData = new NBTTagCompound();
-        }
-        return this.customEntityData;
+        return this.customEntityData.getMutable();
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound getCustomDataIfPresent() {
+        return this.customEntityData.get();
     }
 
     @Inject(method = "readFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V",
             at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/Entity;readEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V"))
     private void preReadFromNBTInject(NBTTagCompound tagCompound, CallbackInfo ci) {
-        if (tagCompound.hasKey("ForgeData")) {
-            this.customEntityData = tagCompound.getCompoundTag("ForgeData");
-        }
+        this.customEntityData.read(tagCompound);
     }
 
-    @Inject(method = "writeToNBT(Lnet/minecraft/nbt/NBTTagCompound;)V",
-            at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/Entity;writeEntityToNBT(Lnet/minecraft/nbt/NBTTagCompound;)V"))
-    private void preWriteToNBTInject(NBTTagCompound tagCompound, CallbackInfo ci) {
-        if (this.customEntityData != null) {
-            tagCompound.setTag("ForgeData", this.customEntityData);
-        }
+    // Written at the end, so changes made while the entity is written are included
+    @Inject(method = "writeToNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("RETURN"))
+    private void postWriteToNBTInject(NBTTagCompound tagCompound, CallbackInfo ci) {
+        this.customEntityData.write(tagCompound);
     }
 
 }
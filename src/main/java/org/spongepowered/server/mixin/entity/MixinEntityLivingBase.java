@@ -39,6 +39,7 @@
 import org.spongepowered.api.event.message.MessageEvent;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -49,6 +50,8 @@
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.StaticMixinHelper;
+import org.spongepowered.server.event.VanillaEvents;
+import org.spongepowered.server.text.ChatBroadcast;
 
 import java.util.Optional;
 
@@ -72,33 +75,39 @@ protected void callDestructEntityEventDeath(DamageSource source, CallbackInfo ci
 
         Optional<User> sourceCreator = Optional.empty();
 
-        Cause cause;
         if (source instanceof EntityDamageSource) {
             EntityDamageSource damageSource = (EntityDamageSource) source;
             IMixinEntity spongeEntity = (IMixinEntity) damageSource.getSourceOfDamage();
             sourceCreator = spongeEntity.getTrackedPlayer(NbtDataUtil.SPONGE_ENTITY_CREATOR);
         }
 
-        if (sourceCreator.isPresent()) {
-            cause = Cause.of(NamedCause.source(source), NamedCause.of("Victim", this), NamedCause.owner(sourceCreator.get()));
-        } else {
-            cause = Cause.of(NamedCause.source(source), NamedCause.of("Victim", this));
-        }
+        if (VanillaEvents.hasListeners(DestructEntityEvent.Death.class)) {
+            Cause cause;
+            if (sourceCreator.isPresent()) {
+                cause = Cause.of(NamedCause.source(source), NamedCause.of("Victim", this), NamedCause.owner(sourceCreator.get()));
+            } else {
+                cause = Cause.of(NamedCause.source(source), NamedCause.of("Victim", this));
+            }
 
-        DestructEntityEvent.Death event = SpongeEventFactory.createDestructEntityEventDeath(
-                cause, originalChannel, Optional.of(originalChannel), new MessageEvent.MessageFormatter(deathMessage), (Living) this, false
-        );
-        if (!SpongeImpl.postEvent(event)) {
-            if (!event.isMessageCancelled()) {
-                event.getChannel().ifPresent(channel -> channel.send(this, event.getMessage()));
+            DestructEntityEvent.Death event = SpongeEventFactory.createDestructEntityEventDeath(
+                    cause, originalChannel, Optional.of(originalChannel), new MessageEvent.MessageFormatter(deathMessage), (Living) this, false
+            );
+            if (SpongeImpl.postEvent(event)) {
+                return;
             }
 
-            // Store cause for drop event which is called after this event
-            if (sourceCreator.isPresent()) {
-                StaticMixinHelper.dropCause = Cause.of(NamedCause.source(this), NamedCause.of("Attacker", source), NamedCause.owner(sourceCreator.get()));
-            } else {
-                StaticMixinHelper.dropCause = Cause.of(NamedCause.source(this), NamedCause.of("Attacker", source));
+            if (!event.isMessageCancelled()) {
+                event.getChannel().ifPresent(channel -> ChatBroadcast.send(this, channel, event.getMessage(), ChatTypes.SYSTEM));
             }
+        } else {
+            ChatBroadcast.send(this, originalChannel, deathMessage, ChatTypes.SYSTEM);
+        }
+
+        // Store cause for drop event which is called after this event
+        if (sourceCreator.isPresent()) {
+            StaticMixinHelper.dropCause = Cause.of(NamedCause.source(this), NamedCause.of("Attacker", source), NamedCause.owner(sourceCreator.get()));
+        } else {
+            StaticMixinHelper.dropCause = Cause.of(NamedCause.source(this), NamedCause.of("Attacker", source));
         }
     }
 
@@ -25,10 +25,8 @@
 package org.spongepowered.server.mixin.entity.player;
 
 import com.flowpowered.math.vector.Vector3d;
-import gnu.trove.map.TIntObjectMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
-import gnu.trove.set.TIntSet;
-import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.map.TIntLongMap;
+import gnu.trove.map.hash.TIntLongHashMap;
 import net.minecraft.block.BlockBed;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -64,6 +62,8 @@
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
 import org.spongepowered.common.mixin.core.entity.MixinEntityLivingBase;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.server.event.VanillaEvents;
+import org.spongepowered.server.interfaces.IMixinCustomDataHolder;
 
 import java.util.Optional;
 
@@ -86,8 +86,34 @@ public abstract class MixinEntityPlayer extends MixinEntityLivingBase implements
 
     private static final String PERSISTED_NBT_TAG = "PlayerPersisted";
 
-    private TIntObjectMap<BlockPos> spawnChunkMap = new TIntObjectHashMap<>();
-    private TIntSet spawnForcedSet = new TIntHashSet();
+    // Spawn positions for other dimensions than the overworld, packed together with the spawn forced flag
+    // (Y is limited to 11 bits, which is plenty for bed positions)
+    private static final int SPAWN_X_BITS = 26;
+    private static final int SPAWN_Y_BITS = 11;
+    private static final int SPAWN_Z_BITS = 26;
+    private static final int SPAWN_Z_SHIFT = 1;
+    private static final int SPAWN_Y_SHIFT = SPAWN_Z_SHIFT + SPAWN_Z_BITS;
+    private static final int SPAWN_X_SHIFT = SPAWN_Y_SHIFT + SPAWN_Y_BITS;
+    private static final long SPAWN_FORCED = 1;
+    private static final long NO_SPAWN = Long.MIN_VALUE;
+
+    private TIntLongMap spawnChunkMap = new TIntLongHashMap(2, 0.5f, 0, NO_SPAWN);
+    @Nullable private BlockPos cachedBedLocation;
+    private int cachedBedDimension;
+
+    private static long packSpawn(int x, int y, int z, boolean forced) {
+        return ((long) x & (1L << SPAWN_X_BITS) - 1) << SPAWN_X_SHIFT
+                | ((long) y & (1L << SPAWN_Y_BITS) - 1) << SPAWN_Y_SHIFT
+                | ((long) z & (1L << SPAWN_Z_BITS) - 1) << SPAWN_Z_SHIFT
+                | (forced ? SPAWN_FORCED : 0);
+    }
+
+    private static BlockPos unpackSpawn(long spawn) {
+        return new BlockPos(
+                (int) (spawn >> SPAWN_X_SHIFT),
+                (int) (spawn << (64 - SPAWN_Y_SHIFT - SPAWN_Y_BITS) >> (64 - SPAWN_Y_BITS)),
+                (int) (spawn << (64 - SPAWN_Z_SHIFT - SPAWN_Z_BITS) >> (64 - SPAWN_Z_BITS)));
+    }
 
     /**
      * @author Minecrell
@@ -100,7 +126,18 @@ public BlockPos getBedLocation() {
 
     @Override
     public BlockPos getBedLocation(int dimension) {
-        return dimension == 0 ? this.spawnChunk : this.spawnChunkMap.get(dimension);
+        if (dimension == 0) {
+            return this.spawnChunk;
+        }
+        if (this.cachedBedLocation == null || this.cachedBedDimension != dimension) {
+            final long spawn = this.spawnChunkMap.get(dimension);
+            if (spawn == NO_SPAWN) {
+                return null;
+            }
+            this.cachedBedLocation = unpackSpawn(spawn);
+            this.cachedBedDimension = dimension;
+        }
+        return this.cachedBedLocation;
     }
 
     /**
@@ -114,7 +151,11 @@ public boolean isSpawnForced() {
 
     @Override
     public boolean isSpawnForced(int dimension) {
-        return dimension == 0 ? this.spawnForced : this.spawnForcedSet.contains(dimension);
+        if (dimension == 0) {
+            return this.spawnForced;
+        }
+        final long spawn = this.spawnChunkMap.get(dimension);
+        return spawn != NO_SPAWN && (spawn & SPAWN_FORCED) != 0;
     }
 
     @Inject(method = "setSpawnPoint", at = @At("HEAD"), cancellable = true)
@@ -134,16 +175,15 @@ public void setSpawnChunk(@Nullable BlockPos pos, boolean forced, int dimension)
                 this.spawnChunk = null;
                 this.spawnForced = false;
             }
-        } else if (pos != null) {
-            this.spawnChunkMap.put(dimension, pos);
-            if (forced) {
-                this.spawnForcedSet.add(dimension);
+        } else {
+            if (pos != null) {
+                this.spawnChunkMap.put(dimension, packSpawn(pos.getX(), pos.getY(), pos.getZ(), forced));
             } else {
-                this.spawnForcedSet.remove(dimension);
+                this.spawnChunkMap.remove(dimension);
+            }
+            if (this.cachedBedDimension == dimension) {
+                this.cachedBedLocation = null;
             }
-        } else {
-            this.spawnChunkMap.remove(dimension);
-            this.spawnForcedSet.remove(dimension);
         }
     }
 
@@ -151,10 +191,10 @@ public void setSpawnChunk(@Nullable BlockPos pos, boolean forced, int dimension)
     private void onClonePlayerReturn(EntityPlayer oldPlayerMc, boolean respawnFromEnd, CallbackInfo ci) {
         MixinEntityPlayer oldPlayer = (MixinEntityPlayer) (Object) oldPlayerMc;
         this.spawnChunkMap = oldPlayer.spawnChunkMap;
-        this.spawnForcedSet = oldPlayer.spawnForcedSet;
+        this.cachedBedLocation = null;
 
-        final NBTTagCompound old = oldPlayer.getEntityData();
-        if (old.hasKey(PERSISTED_NBT_TAG)) {
+        final NBTTagCompound old = ((IMixinCustomDataHolder) oldPlayerMc).getCustomDataIfPresent();
+        if (old != null && old.hasKey(PERSISTED_NBT_TAG)) {
             this.getEntityData().setTag(PERSISTED_NBT_TAG, old.getCompoundTag(PERSISTED_NBT_TAG));
         }
     }
@@ -164,25 +204,23 @@ private void onReadEntityFromNBT(NBTTagCompound tagCompound, CallbackInfo ci) {
         final NBTTagList spawnList = tagCompound.getTagList("Spawns", NbtDataUtil.TAG_COMPOUND);
         for (int i = 0; i < spawnList.tagCount(); i++) {
             final NBTTagCompound spawnData = spawnList.getCompoundTagAt(i);
-            int spawnDim = spawnData.getInteger("Dim");
-            this.spawnChunkMap.put(spawnDim,
-                    new BlockPos(spawnData.getInteger("SpawnX"), spawnData.getInteger("SpawnY"), spawnData.getInteger("SpawnZ")));
-            if (spawnData.getBoolean("SpawnForced")) {
-                this.spawnForcedSet.add(spawnDim);
-            }
+            this.spawnChunkMap.put(spawnData.getInteger("Dim"), packSpawn(spawnData.getInteger("SpawnX"),
+                    spawnData.getInteger("SpawnY"), spawnData.getInteger("SpawnZ"), spawnData.getBoolean("SpawnForced")));
         }
+        this.cachedBedLocation = null;
     }
 
     @Inject(method = "writeEntityToNBT", at = @At("RETURN"))
     private void onWriteEntityToNBT(NBTTagCompound tagCompound, CallbackInfo ci) {
         final NBTTagList spawnList = new NBTTagList();
-        this.spawnChunkMap.forEachEntry((dim, spawn) -> {
+        this.spawnChunkMap.forEachEntry((dim, packedSpawn) -> {
+            final BlockPos spawn = unpackSpawn(packedSpawn);
             NBTTagCompound spawnData = new NBTTagCompound();
             spawnData.setInteger("Dim", dim);
             spawnData.setInteger("SpawnX", spawn.getX());
             spawnData.setInteger("SpawnY", spawn.getY());
             spawnData.setInteger("SpawnZ", spawn.getZ());
-            spawnData.setBoolean("SpawnForced", this.spawnForcedSet.contains(dim));
+            spawnData.setBoolean("SpawnForced", (packedSpawn & SPAWN_FORCED) != 0);
             spawnList.appendTag(spawnData);
             return true;
         });
@@ -199,6 +237,10 @@ private Transaction<ItemStackSnapshot> createTransaction(net.minecraft.item.Item
 
     @Inject(method = "setItemInUse", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/player/EntityPlayer;itemInUse:Lnet/minecraft/item/ItemStack;", opcode = Opcodes.PUTFIELD), cancellable = true)
     private void onSetItemInUse(net.minecraft.item.ItemStack stack, int duration, CallbackInfo ci) {
+        if (!VanillaEvents.hasListeners(UseItemStackEvent.Start.class)) {
+            return;
+        }
+
         // Handle logic on our own
         ci.cancel();
 
@@ -217,10 +259,14 @@ private void onSetItemInUse(net.minecraft.item.ItemStack stack, int duration, Ca
 
     @Inject(method = "onUpdate", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/player/EntityPlayer;itemInUseCount:I", opcode = Opcodes.GETFIELD))
     private void callUseItemStackTick(CallbackInfo ci) {
-        UseItemStackEvent.Tick event = SpongeEventFactory.createUseItemStackEventTick(Cause.of(NamedCause.source(this)),
-                this.itemInUseCount, this.itemInUseCount, createTransaction(this.itemInUse));
+        // Called every tick while using an item, so avoid creating the event if nobody listens for it
+        if (VanillaEvents.hasListeners(UseItemStackEvent.Tick.class)) {
+            UseItemStackEvent.Tick event = SpongeEventFactory.createUseItemStackEventTick(Cause.of(NamedCause.source(this)),
+                    this.itemInUseCount, this.itemInUseCount, createTransaction(this.itemInUse));
+
+            this.itemInUseCount = SpongeImpl.postEvent(event) ? -1 : event.getRemainingDuration();
+        }
 
-        this.itemInUseCount = SpongeImpl.postEvent(event) ? -1 : event.getRemainingDuration();
         if (this.itemInUseCount <= 0) {
             onItemUseFinish();
         }
@@ -229,6 +275,11 @@ private void callUseItemStackTick(CallbackInfo ci) {
     @Redirect(method = "stopUsingItem", at = @At(value = "INVOKE", target = "Lnet/minecraft/item/ItemStack;onPlayerStoppedUsing"
             + "(Lnet/minecraft/world/World;Lnet/minecraft/entity/player/EntityPlayer;I)V"))
     private void callUseItemStackStop(net.minecraft.item.ItemStack stack, World world, EntityPlayer player, int remainingDuration) {
+        if (!VanillaEvents.hasListeners(UseItemStackEvent.Stop.class)) {
+            stack.onPlayerStoppedUsing(world, player, remainingDuration);
+            return;
+        }
+
         UseItemStackEvent.Stop event = SpongeEventFactory.createUseItemStackEventStop(Cause.of(NamedCause.source(this)),
                 this.itemInUseCount, this.itemInUseCount, createTransaction(stack));
 
@@ -241,6 +292,10 @@ private void callUseItemStackStop(net.minecraft.item.ItemStack stack, World worl
             + "(Lnet/minecraft/world/World;Lnet/minecraft/entity/player/EntityPlayer;)Lnet/minecraft/item/ItemStack;"))
     private net.minecraft.item.ItemStack callUseItemStackFinish(net.minecraft.item.ItemStack stack, World world, EntityPlayer player) {
         net.minecraft.item.ItemStack result = stack.onItemUseFinish(world, player);
+        if (!VanillaEvents.hasListeners(UseItemStackEvent.Finish.class)) {
+            return result;
+        }
+
         Transaction<ItemStackSnapshot> resultTransaction = new Transaction<>(((ItemStack) stack).createSnapshot(),
                 ((ItemStack) result).createSnapshot());
 
@@ -254,6 +309,10 @@ private net.minecraft.item.ItemStack callUseItemStackFinish(net.minecraft.item.I
 
     @Inject(method = "trySleep", at = @At("HEAD"), cancellable = true)
     private void onTrySleep(BlockPos bedPos, CallbackInfoReturnable<EntityPlayer.EnumStatus> ci) {
+        if (!VanillaEvents.hasListeners(SleepingEvent.Pre.class)) {
+            return;
+        }
+
         SleepingEvent.Pre event = SpongeEventFactory.createSleepingEventPre(Cause.of(NamedCause.source(this)),
                 ((org.spongepowered.api.world.World) this.worldObj).createSnapshot(bedPos.getX(), bedPos.getY(), bedPos.getZ()), this);
         if (SpongeImpl.postEvent(event)) {
@@ -292,12 +351,20 @@ public void wakeUpPlayer(boolean immediately, boolean updateWorldFlag, boolean s
         }
 
         // Sponge start
-        BlockSnapshot bed = getWorld().createSnapshot(VecHelper.toVector(this.playerLocation));
-        SleepingEvent.Post event = SpongeEventFactory.createSleepingEventPost(Cause.of(NamedCause.source(this)), bed,
-                Optional.ofNullable(newLocation), this, setSpawn);
+        final boolean postEvent = VanillaEvents.hasListeners(SleepingEvent.Post.class);
+        final boolean finishEvent = VanillaEvents.hasListeners(SleepingEvent.Finish.class);
+        BlockSnapshot bed = postEvent || finishEvent ? getWorld().createSnapshot(VecHelper.toVector(this.playerLocation)) : null;
+        Optional<Transform<org.spongepowered.api.world.World>> spawnTransform = Optional.ofNullable(newLocation);
 
-        if (SpongeImpl.postEvent(event)) {
-            return;
+        if (postEvent) {
+            SleepingEvent.Post event = SpongeEventFactory.createSleepingEventPost(Cause.of(NamedCause.source(this)), bed,
+                    spawnTransform, this, setSpawn);
+
+            if (SpongeImpl.postEvent(event)) {
+                return;
+            }
+
+            spawnTransform = event.getSpawnTransform();
         }
 
         // It's time to get up!
@@ -307,7 +374,7 @@ public void wakeUpPlayer(boolean immediately, boolean updateWorldFlag, boolean s
         this.worldObj.setBlockState(this.playerLocation, iblockstate.withProperty(BlockBed.OCCUPIED, false), 4);
 
         // Teleport player
-        event.getSpawnTransform().ifPresent(this::setTransform);
+        spawnTransform.ifPresent(this::setTransform);
         // Sponge end
 
         this.sleeping = false;
@@ -323,7 +390,9 @@ public void wakeUpPlayer(boolean immediately, boolean updateWorldFlag, boolean s
         }
 
         // Sponge start
-        SpongeImpl.postEvent(SpongeEventFactory.createSleepingEventFinish(Cause.of(NamedCause.source(this)), bed, this));
+        if (finishEvent) {
+            SpongeImpl.postEvent(SpongeEventFactory.createSleepingEventFinish(Cause.of(NamedCause.source(this)), bed, this));
+        }
         // Sponge end
     }
 
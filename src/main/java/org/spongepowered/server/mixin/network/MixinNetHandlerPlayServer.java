@@ -45,6 +45,7 @@
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.event.message.MessageChannelEvent;
 import org.spongepowered.api.event.message.MessageEvent;
+import org.spongepowered.api.event.network.ChannelRegistrationEvent;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
@@ -59,13 +60,21 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.server.event.VanillaEvents;
 import org.spongepowered.server.interfaces.IMixinNetHandlerPlayServer;
+import org.spongepowered.server.network.ChannelTraffic;
+import org.spongepowered.server.network.PayloadRateLimiter;
 import org.spongepowered.server.network.VanillaChannelRegistrar;
+import org.spongepowered.server.text.AsyncChatDispatcher;
+import org.spongepowered.server.text.ChatBroadcast;
 
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
 
 @Mixin(NetHandlerPlayServer.class)
 public abstract class MixinNetHandlerPlayServer implements RemoteConnection, IMixinNetHandlerPlayServer {
@@ -76,6 +85,9 @@ public abstract class MixinNetHandlerPlayServer implements RemoteConnection, IMi
     private static final Splitter CHANNEL_SPLITTER = Splitter.on(CHANNEL_SEPARATOR);
 
     private final Set<String> registeredChannels = new HashSet<>();
+    private final ChannelTraffic channelTraffic = new ChannelTraffic();
+    @Nullable private PayloadRateLimiter payloadRateLimiter;
+    private final AtomicBoolean rateLimitKickPending = new AtomicBoolean();
     private boolean forceUpdateInventorySlot;
 
     @Override
@@ -83,9 +95,27 @@ public boolean supportsChannel(String name) {
         return this.registeredChannels.contains(name);
     }
 
+    @Override
+    public ChannelTraffic getChannelTraffic() {
+        return this.channelTraffic;
+    }
+
+    @Override
+    @Nullable
+    public PayloadRateLimiter getPayloadRateLimiter() {
+        return this.payloadRateLimiter;
+    }
+
+    @Override
+    public boolean markRateLimitKick() {
+        return this.rateLimitKickPending.compareAndSet(false, true);
+    }
+
     @Inject(method = "<init>*", at = @At("RETURN"))
     private void registerChannels(CallbackInfo ci) {
-        ((VanillaChannelRegistrar) Sponge.getChannelRegistrar()).registerChannels((NetHandlerPlayServer) (Object) this);
+        final VanillaChannelRegistrar registrar = (VanillaChannelRegistrar) Sponge.getChannelRegistrar();
+        this.payloadRateLimiter = registrar.createRateLimiter();
+        registrar.registerChannels((NetHandlerPlayServer) (Object) this);
     }
 
     @Inject(method = "processChatMessage", at = @At(value = "INVOKE",
@@ -94,12 +124,26 @@ private void registerChannels(CallbackInfo ci) {
     private void onProcessChatMessage(C01PacketChatMessage packet, CallbackInfo ci, String s, IChatComponent component) {
         final Text[] message = SpongeTexts.splitChatMessage((ChatComponentTranslation) component); // safe cast
         final MessageChannel originalChannel = ((Player) this.playerEntity).getMessageChannel();
+        if (!VanillaEvents.hasListeners(MessageChannelEvent.Chat.class)) {
+            final MessageEvent.MessageFormatter formatter = new MessageEvent.MessageFormatter(message[0], message[1]);
+            if (AsyncChatDispatcher.isEnabled()) {
+                AsyncChatDispatcher.dispatch(this.playerEntity, originalChannel, formatter::format, ChatTypes.CHAT);
+            } else {
+                ChatBroadcast.send(this.playerEntity, originalChannel, formatter.format(), ChatTypes.CHAT);
+            }
+            return;
+        }
+
         final MessageChannelEvent.Chat event = SpongeEventFactory.createMessageChannelEventChat(
                 Cause.of(NamedCause.source(this.playerEntity)), originalChannel, Optional.of(originalChannel),
                 new MessageEvent.MessageFormatter(message[0], message[1]), Text.of(s), false
         );
         if (!SpongeImpl.postEvent(event) && !event.isMessageCancelled()) {
-            event.getChannel().ifPresent(channel -> channel.send(this.playerEntity, event.getMessage(), ChatTypes.CHAT));
+            if (AsyncChatDispatcher.isEnabled()) {
+                event.getChannel().ifPresent(channel -> AsyncChatDispatcher.dispatch(this.playerEntity, channel, event::getMessage, ChatTypes.CHAT));
+            } else {
+                event.getChannel().ifPresent(channel -> ChatBroadcast.send(this.playerEntity, channel, event.getMessage(), ChatTypes.CHAT));
+            }
         } else {
             ci.cancel();
         }
@@ -119,23 +163,28 @@ private void onProcessPluginMessage(C17PacketCustomPayload packet, CallbackInfo
         }
 
         ci.cancel();
+        final VanillaChannelRegistrar registrar = (VanillaChannelRegistrar) Sponge.getChannelRegistrar();
+        if (!registrar.acceptPayload((NetHandlerPlayServer) (Object) this, packet)) {
+            return;
+        }
+
         if (name.equals(REGISTER_CHANNEL)) {
             final String channels = packet.getBufferData().toString(StandardCharsets.UTF_8);
             for (String channel : CHANNEL_SPLITTER.split(channels)) {
-                if (this.registeredChannels.add(channel)) {
+                if (this.registeredChannels.add(channel) && VanillaEvents.hasListeners(ChannelRegistrationEvent.Register.class)) {
                     SpongeImpl.postEvent(SpongeEventFactory.createChannelRegistrationEventRegister(Cause.of(NamedCause.source(this)), channel));
                 }
             }
         } else if (name.equals(UNREGISTER_CHANNEL)) {
             final String channels = packet.getBufferData().toString(StandardCharsets.UTF_8);
             for (String channel : CHANNEL_SPLITTER.split(channels)) {
-                if (this.registeredChannels.remove(channel)) {
+                if (this.registeredChannels.remove(channel) && VanillaEvents.hasListeners(ChannelRegistrationEvent.Unregister.class)) {
                     SpongeImpl.postEvent(SpongeEventFactory.createChannelRegistrationEventUnregister(Cause.of(NamedCause.source(this)), channel));
                 }
             }
         } else {
             // Custom channel
-            ((VanillaChannelRegistrar) Sponge.getChannelRegistrar()).post(this, packet);
+            registrar.post(this, packet);
         }
     }
 
@@ -37,9 +37,11 @@
 import net.minecraft.util.Util;
 import net.minecraft.world.WorldServer;
 import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -47,13 +49,19 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.server.SpongeVanilla;
+import org.spongepowered.server.event.VanillaEvents;
+import org.spongepowered.server.network.VanillaChannelRegistrar;
+import org.spongepowered.server.text.AsyncChatDispatcher;
+import org.spongepowered.server.world.IncrementalSaveScheduler;
 import org.spongepowered.server.world.VanillaDimensionManager;
+import org.spongepowered.server.world.storage.PlayerDataWriter;
 
 import java.util.Hashtable;
 import java.util.List;
@@ -72,6 +80,7 @@ public abstract class MixinMinecraftServer implements IMixinMinecraftServer {
 
     @Shadow public abstract boolean getAllowNether();
     @Shadow public abstract NetworkSystem getNetworkSystem();
+    @Shadow protected abstract void saveAllWorlds(boolean dontLog);
 
     private boolean skipServerStop;
     private final Hashtable<Integer, long[]> worldTickTimes = new Hashtable<>();
@@ -114,6 +123,13 @@ private void preventDoubleStop(CallbackInfo ci) {
             shift = At.Shift.AFTER, remap = false))
     private void callServerStopping(CallbackInfo ci) {
         SpongeVanilla.INSTANCE.onServerStopping();
+        AsyncChatDispatcher.shutdown();
+    }
+
+    @Inject(method = "stopServer", at = @At("RETURN"))
+    private void onServerStopped(CallbackInfo ci) {
+        // Make sure all players are saved before the server exits
+        PlayerDataWriter.awaitPending();
     }
 
     @Inject(method = "addFaviconToStatusResponse", at = @At("HEAD"), cancellable = true)
@@ -127,7 +143,17 @@ private void onAddFaviconToStatusResponse(ServerStatusResponse response, Callbac
     @Inject(method = "stopServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;flush()V"),
             locals = LocalCapture.CAPTURE_FAILHARD)
     private void callWorldUnload(CallbackInfo ci, int i, WorldServer worldserver) {
-        SpongeImpl.postEvent(SpongeEventFactory.createUnloadWorldEvent(Cause.of(NamedCause.source(this)), (World) worldserver));
+        if (VanillaEvents.hasListeners(UnloadWorldEvent.class)) {
+            SpongeImpl.postEvent(SpongeEventFactory.createUnloadWorldEvent(Cause.of(NamedCause.source(this)), (World) worldserver));
+        }
+    }
+
+    @Redirect(method = "tick", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;saveAllWorlds(Z)V"))
+    private void onAutoSaveWorlds(MinecraftServer server, boolean dontLog) {
+        // Worlds are saved a few chunks per tick instead
+        if (!IncrementalSaveScheduler.isEnabled()) {
+            this.saveAllWorlds(dontLog);
+        }
     }
 
     /**
@@ -202,6 +228,16 @@ public void updateTimeLightAndEntities() {
         VanillaDimensionManager.unloadWorlds(this.worldTickTimes);
         // Sponge end
 
+        // Sponge start - Save some of the modified chunks if incremental saving is enabled
+        this.theProfiler.endStartSection("save");
+        IncrementalSaveScheduler.tick(this.tickCounter);
+        // Sponge end
+
+        // Sponge start - Send plugin channel changes collected during this tick
+        this.theProfiler.endStartSection("channels");
+        ((VanillaChannelRegistrar) Sponge.getChannelRegistrar()).sendChannelUpdates();
+        // Sponge end
+
         this.theProfiler.endStartSection("connection");
         this.getNetworkSystem().networkTick();
         this.theProfiler.endStartSection("players");
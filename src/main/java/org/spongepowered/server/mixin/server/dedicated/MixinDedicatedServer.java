@@ -37,10 +37,13 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.server.SpongeVanilla;
+import org.spongepowered.server.launch.StartupTrace;
 
 import java.io.File;
 import java.net.Proxy;
 
+import javax.annotation.Nullable;
+
 @Mixin(DedicatedServer.class)
 public abstract class MixinDedicatedServer extends MinecraftServer {
 
@@ -50,6 +53,8 @@ public abstract class MixinDedicatedServer extends MinecraftServer {
     private static final String LOAD_ALL_WORLDS = "Lnet/minecraft/server/dedicated/DedicatedServer;loadAllWorlds"
             + "(Ljava/lang/String;Ljava/lang/String;JLnet/minecraft/world/WorldType;Ljava/lang/String;)V";
 
+    @Nullable private StartupTrace.Section loadWorldsSection;
+
     protected MixinDedicatedServer(File workDir, Proxy proxy, File profileCacheDir) {
         super(workDir, proxy, profileCacheDir);
     }
@@ -75,9 +80,20 @@ private void callServerAboutToStart(CallbackInfoReturnable<Boolean> ci) {
         SpongeVanilla.INSTANCE.onServerAboutToStart();
     }
 
+    @Inject(method = "startServer()Z", at = @At(value = "INVOKE", target = LOAD_ALL_WORLDS))
+    private void onLoadWorlds(CallbackInfoReturnable<Boolean> ci) {
+        this.loadWorldsSection = StartupTrace.start("load-worlds");
+    }
+
     @Inject(method = "startServer()Z", at = @At(value = "INVOKE", target = LOAD_ALL_WORLDS, shift = At.Shift.AFTER))
     private void callServerStarting(CallbackInfoReturnable<Boolean> ci) {
+        if (this.loadWorldsSection != null) {
+            this.loadWorldsSection.close();
+            this.loadWorldsSection = null;
+        }
+
         SpongeVanilla.INSTANCE.onServerStarting();
+        StartupTrace.finish();
     }
 
     @Inject(method = "updateTimeLightAndEntities", at = @At("RETURN"))
@@ -31,34 +31,35 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+import org.spongepowered.server.interfaces.IMixinCustomDataHolder;
+import org.spongepowered.server.nbt.CustomDataCompound;
 
 import javax.annotation.Nullable;
 
 @Mixin(TileEntity.class)
-public abstract class MixinTileEntity implements IMixinTileEntity {
+public abstract class MixinTileEntity implements IMixinTileEntity, IMixinCustomDataHolder {
 
-    @Nullable private NBTTagCompound customTileData;
+    private final CustomDataCompound customTileData = new CustomDataCompound();
 
     @Override
     public NBTTagCompound getTileData() {
-        if (this.customTileData == null) {
-            this.customTileData = new NBTTagCompound();
-        }
-        return this.customTileData;
+        return this.customTileData.getMutable();
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound getCustomDataIfPresent() {
+        return this.customTileData.get();
     }
 
     @Inject(method = "readFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("RETURN"))
     private void endReadFromNBTInject(NBTTagCompound tagCompound, CallbackInfo ci) {
-        if (tagCompound.hasKey("ForgeData")) {
-            this.customTileData = tagCompound.getCompoundTag("ForgeData");
-        }
+        this.customTileData.read(tagCompound);
     }
 
     @Inject(method = "writeToNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("RETURN"))
     private void endWriteToNBTInject(NBTTagCompound tagCompound, CallbackInfo ci) {
-        if (this.customTileData != null) {
-            tagCompound.setTag("ForgeData", this.customTileData);
-        }
+        this.customTileData.write(tagCompound);
     }
 
 }
@@ -46,6 +46,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.server.event.VanillaEvents;
 import org.spongepowered.server.interfaces.IMixinExplosion;
 
 import java.util.Collections;
@@ -98,6 +99,16 @@ public Cause createCause() {
             + "getEntitiesWithinAABBExcludingEntity(Lnet/minecraft/entity/Entity;Lnet/minecraft/util/AxisAlignedBB;)Ljava/util/List;"))
     private List<Entity> callWorldOnExplosionEvent(World world, Entity entity, AxisAlignedBB aabb) {
         final List<Entity> affectedEntities = this.shouldDamageEntities() ? world.getEntitiesWithinAABBExcludingEntity(entity, aabb) : Collections.emptyList();
+        if (!VanillaEvents.hasListeners(ExplosionEvent.Detonate.class)) {
+            // Same result as an unmodified event, without creating any snapshots
+            if (shouldBreakBlocks()) {
+                this.affectedBlockPositions.removeIf(pos -> !world.isValid(pos));
+            } else {
+                this.affectedBlockPositions.clear();
+            }
+            return affectedEntities;
+        }
+
         final org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.worldObj;
 
         final ImmutableList.Builder<Transaction<BlockSnapshot>> blockTransactionBuilder = ImmutableList.builder();
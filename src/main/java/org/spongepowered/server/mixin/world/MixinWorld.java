@@ -24,20 +24,35 @@
  */
 package org.spongepowered.server.mixin.world;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldInfo;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.event.entity.ConstructEntityEvent;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
+import org.spongepowered.server.event.VanillaEvents;
+import org.spongepowered.server.interfaces.IMixinConstructedEntity;
 
 @Mixin(World.class)
 public abstract class MixinWorld implements IMixinWorld {
 
     @Shadow protected WorldInfo worldInfo;
 
+    // Only posted for entities that were actually added to the world
+    @Inject(method = {"spawnEntityInWorld", "addWeatherEffect"}, at = @At("RETURN"))
+    private void onEntityAdded(Entity entity, CallbackInfoReturnable<Boolean> cir) {
+        if (cir.getReturnValueZ() && VanillaEvents.hasListeners(ConstructEntityEvent.Post.class)) {
+            ((IMixinConstructedEntity) entity).postConstructEvent(Cause.of(NamedCause.source(this)));
+        }
+    }
+
     @Inject(method = "updateWeather", at = {
             @At(value = "INVOKE", target = "Lnet/minecraft/world/storage/WorldInfo;setThundering(Z)V"),
             @At(value = "INVOKE", target = "Lnet/minecraft/world/storage/WorldInfo;setRaining(Z)V")
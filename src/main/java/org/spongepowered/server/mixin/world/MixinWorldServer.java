@@ -30,6 +30,7 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.world.Explosion;
+import net.minecraft.world.MinecraftException;
 import net.minecraft.world.WorldProvider;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.storage.ISaveHandler;
@@ -38,6 +39,7 @@
 import org.spongepowered.api.event.world.ExplosionEvent;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
@@ -45,26 +47,40 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.server.event.VanillaEvents;
 import org.spongepowered.server.interfaces.IMixinExplosion;
+import org.spongepowered.server.interfaces.IMixinWorldServer;
 import org.spongepowered.server.world.VanillaDimensionManager;
 
 @Mixin(WorldServer.class)
-public abstract class MixinWorldServer extends net.minecraft.world.World {
+public abstract class MixinWorldServer extends net.minecraft.world.World implements IMixinWorldServer {
 
     private MixinWorldServer(ISaveHandler saveHandlerIn, WorldInfo info, WorldProvider providerIn, Profiler profilerIn, boolean client) {
         super(saveHandlerIn, info, providerIn, profilerIn, client);
     }
 
+    @Shadow protected abstract void saveLevel() throws MinecraftException;
+
+    @Override
+    public void saveLevelData() throws MinecraftException {
+        saveLevel();
+    }
+
     @Inject(method = "<init>", at = @At("RETURN"))
     private void onConstructed(MinecraftServer server, ISaveHandler saveHandlerIn, WorldInfo info, int dimensionId, Profiler profilerIn,
             CallbackInfo ci) {
         VanillaDimensionManager.setWorld(dimensionId, (WorldServer) (Object) this);
+        VanillaDimensionManager.invalidateWorldFlags();
     }
 
     @Inject(method = "newExplosion", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/Explosion;doExplosionA()V"),
             locals = LocalCapture.CAPTURE_FAILHARD, cancellable = true)
     private void callWorldOnExplosionEvent(Entity entityIn, double x, double y, double z, float strength, boolean isFlaming, boolean isSmoking,
             CallbackInfoReturnable<Explosion> cir, Explosion explosion) {
+        if (!VanillaEvents.hasListeners(ExplosionEvent.Pre.class)) {
+            return;
+        }
+
         final ExplosionEvent.Pre event = SpongeEventFactory.createExplosionEventPre(((IMixinExplosion) explosion).createCause(),
                 (org.spongepowered.api.world.explosion.Explosion) explosion, (World) this);
         if (SpongeImpl.postEvent(event)) {
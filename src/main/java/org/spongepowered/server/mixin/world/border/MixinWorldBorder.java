@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.mixin.world.border;
+
+import net.minecraft.world.border.WorldBorder;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.server.world.VanillaDimensionManager;
+
+@Mixin(WorldBorder.class)
+public abstract class MixinWorldBorder {
+
+    // The world border decides if the spawn point is used or the center of the border
+
+    @Inject(method = "setCenter", at = @At("RETURN"))
+    private void onSetCenter(double x, double z, CallbackInfo ci) {
+        VanillaDimensionManager.invalidateWorldFlags();
+    }
+
+    @Inject(method = "setTransition(D)V", at = @At("RETURN"))
+    private void onSetTransition(double newSize, CallbackInfo ci) {
+        VanillaDimensionManager.invalidateWorldFlags();
+    }
+
+    @Inject(method = "setTransition(DDJ)V", at = @At("RETURN"))
+    private void onSetTransition(double oldSize, double newSize, long time, CallbackInfo ci) {
+        VanillaDimensionManager.invalidateWorldFlags();
+    }
+
+    @Inject(method = "setSize", at = @At("RETURN"))
+    private void onSetSize(int size, CallbackInfo ci) {
+        VanillaDimensionManager.invalidateWorldFlags();
+    }
+
+}
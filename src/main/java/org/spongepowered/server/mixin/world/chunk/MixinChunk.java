@@ -24,12 +24,18 @@
  */
 package org.spongepowered.server.mixin.world.chunk;
 
+import com.google.common.collect.Iterables;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.event.entity.ConstructEntityEvent;
+import org.spongepowered.api.event.world.chunk.LoadChunkEvent;
+import org.spongepowered.api.event.world.chunk.UnloadChunkEvent;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -37,7 +43,12 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.server.event.VanillaEvents;
+import org.spongepowered.server.interfaces.IMixinConstructedEntity;
+import org.spongepowered.server.world.VanillaDimensionManager;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Mixin(Chunk.class)
 public abstract class MixinChunk implements org.spongepowered.api.world.Chunk {
@@ -45,12 +56,12 @@ public abstract class MixinChunk implements org.spongepowered.api.world.Chunk {
     @Shadow @Final private World worldObj;
     @Shadow @Final public int xPosition;
     @Shadow @Final public int zPosition;
+    @Shadow @Final private ClassInheritanceMultiMap<Entity>[] entityLists;
 
     @Override
     public boolean unloadChunk() {
-        if (this.worldObj.provider.canRespawnHere()
-                && DimensionManager.shouldLoadSpawn(this.worldObj.provider.getDimensionId())
-                && this.worldObj.isSpawnChunk(this.xPosition, this.zPosition)) {
+        if (VanillaDimensionManager.isKeepingSpawnChunks(this.worldObj.provider.getDimensionId())
+                && VanillaDimensionManager.isSpawnChunk(this.worldObj.provider.getDimensionId(), this.xPosition, this.zPosition)) {
             return false;
         }
 
@@ -60,12 +71,32 @@ public boolean unloadChunk() {
 
     @Inject(method = "onChunkLoad", at = @At("RETURN"))
     private void postChunkLoad(CallbackInfo ci) {
-        SpongeImpl.postEvent(SpongeEventFactory.createLoadChunkEvent(Cause.of(NamedCause.source(this.worldObj)), this));
+        if (VanillaEvents.hasListeners(ConstructEntityEvent.Post.class)) {
+            // Copy the entities first, listeners may spawn, remove or move entities in this chunk
+            final List<Entity> loaded = new ArrayList<>();
+            for (ClassInheritanceMultiMap<Entity> entities : this.entityLists) {
+                Iterables.addAll(loaded, entities);
+            }
+
+            if (!loaded.isEmpty()) {
+                // Entities loaded with the chunk share the same cause
+                final Cause cause = Cause.of(NamedCause.source(this.worldObj));
+                for (Entity entity : loaded) {
+                    ((IMixinConstructedEntity) entity).postConstructEvent(cause);
+                }
+            }
+        }
+
+        if (VanillaEvents.hasListeners(LoadChunkEvent.class)) {
+            SpongeImpl.postEvent(SpongeEventFactory.createLoadChunkEvent(Cause.of(NamedCause.source(this.worldObj)), this));
+        }
     }
 
     @Inject(method = "onChunkUnload", at = @At("RETURN"))
     private void postChunkUnload(CallbackInfo ci) {
-        SpongeImpl.postEvent(SpongeEventFactory.createUnloadChunkEvent(Cause.of(NamedCause.source(this.worldObj)), this));
+        if (VanillaEvents.hasListeners(UnloadChunkEvent.class)) {
+            SpongeImpl.postEvent(SpongeEventFactory.createUnloadChunkEvent(Cause.of(NamedCause.source(this.worldObj)), this));
+        }
     }
 
 }
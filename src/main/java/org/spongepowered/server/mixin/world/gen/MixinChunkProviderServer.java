@@ -35,27 +35,46 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.server.interfaces.IMixinChunkProviderServer;
 import org.spongepowered.server.world.VanillaDimensionManager;
 
 import java.util.List;
 
 @Mixin(ChunkProviderServer.class)
-public abstract class MixinChunkProviderServer {
+public abstract class MixinChunkProviderServer implements IMixinChunkProviderServer {
 
     @Shadow private IChunkProvider serverChunkGenerator;
     @Shadow private List<Chunk> loadedChunks;
     @Shadow private WorldServer worldObj;
 
+    @Shadow abstract void saveChunkData(Chunk chunk);
+
+    @Override
+    public List<Chunk> getLoadedChunks() {
+        return this.loadedChunks;
+    }
+
+    @Override
+    public void saveChunk(Chunk chunk) {
+        saveChunkData(chunk);
+        chunk.setModified(false);
+    }
+
     // Optionally unload spawn chunks if not specified in the world configuration
     @Redirect(method = "dropChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldProvider;canRespawnHere()Z"))
     private boolean onCanRespawnHere(WorldProvider provider) {
-        return provider.canRespawnHere() && VanillaDimensionManager.shouldLoadSpawn(provider.getDimensionId());
+        return VanillaDimensionManager.isKeepingSpawnChunks(provider.getDimensionId());
+    }
+
+    @Redirect(method = "dropChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;isSpawnChunk(II)Z"))
+    private boolean onIsSpawnChunk(WorldServer world, int x, int z) {
+        return VanillaDimensionManager.isSpawnChunk(world.provider.getDimensionId(), x, z);
     }
 
     @Inject(method = "unloadQueuedChunks", at = @At(value = "INVOKE_ASSIGN", target = "Ljava/util/List;remove(Ljava/lang/Object;)Z", remap = false),
             cancellable = true)
     private void onUnloadQueuedChunks(CallbackInfoReturnable<Boolean> cir) {
-        if (this.loadedChunks.isEmpty() && !VanillaDimensionManager.shouldLoadSpawn(this.worldObj.provider.getDimensionId())) {
+        if (this.loadedChunks.isEmpty() && !VanillaDimensionManager.isLoadingSpawn(this.worldObj.provider.getDimensionId())) {
             VanillaDimensionManager.unloadWorld(this.worldObj.provider.getDimensionId());
             cir.setReturnValue(this.serverChunkGenerator.unloadQueuedChunks());
         }
@@ -24,22 +24,32 @@
  */
 package org.spongepowered.server.mixin.world.storage;
 
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.storage.SaveHandler;
 import net.minecraft.world.storage.WorldInfo;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
+import org.spongepowered.server.world.storage.PlayerDataWriter;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
 
 @Mixin(SaveHandler.class)
 public abstract class MixinSaveHandler implements IMixinSaveHandler {
 
+    @Shadow @Final private File playersDirectory;
+
     @Inject(method = "loadWorldInfo", locals = LocalCapture.CAPTURE_FAILHARD, cancellable = true, at = {
             @At(value = "RETURN", ordinal = 0),
             @At(value = "RETURN", ordinal = 1)
@@ -52,4 +62,40 @@ private void onLoadWorldInfoBeforeReturn(CallbackInfoReturnable<WorldInfo> cir,
         cir.setReturnValue(info);
     }
 
+    // Player data written by writePlayerData, until the target file is known
+    @Nullable private NBTTagCompound pendingPlayerData;
+
+    @Redirect(method = "writePlayerData", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/nbt/CompressedStreamTools;writeCompressed(Lnet/minecraft/nbt/NBTTagCompound;Ljava/io/OutputStream;)V"))
+    private void onWriteCompressed(NBTTagCompound data, OutputStream out) throws IOException {
+        // The data is compressed and written on the player data thread instead
+        out.close();
+        // Item stacks add their live tag compound to the written data, so copy it before it leaves the main thread
+        this.pendingPlayerData = (NBTTagCompound) data.copy();
+    }
+
+    @Redirect(method = "writePlayerData", at = @At(value = "INVOKE", target = "Ljava/io/File;exists()Z", remap = false))
+    private boolean onPlayerDataExists(File file) {
+        // Keep the old file, it is replaced once the new data was written
+        return false;
+    }
+
+    @Redirect(method = "writePlayerData", at = @At(value = "INVOKE", target = "Ljava/io/File;renameTo(Ljava/io/File;)Z", remap = false))
+    private boolean onRenamePlayerData(File temp, File file) {
+        // Remove the empty temporary file and schedule the write to the actual file
+        temp.delete();
+        final NBTTagCompound data = this.pendingPlayerData;
+        this.pendingPlayerData = null;
+        if (data != null) {
+            PlayerDataWriter.write(file, data);
+        }
+        return true;
+    }
+
+    @Inject(method = "readPlayerData", at = @At("HEAD"))
+    private void onReadPlayerData(EntityPlayer player, CallbackInfoReturnable<NBTTagCompound> cir) {
+        // The file may not contain the latest data if it is still being saved
+        PlayerDataWriter.flush(new File(this.playersDirectory, player.getUniqueID().toString() + ".dat"));
+    }
+
 }
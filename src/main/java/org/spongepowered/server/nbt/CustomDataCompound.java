@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.nbt;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holds the custom data compound of an entity or tile entity ("ForgeData").
+ *
+ * <p>The compound that was last read from or written to NBT is kept as an
+ * unmodified snapshot and shared with the serialized compounds. It is only
+ * copied when the live compound is handed out for modification after a load,
+ * or when it was changed since the last save.</p>
+ */
+public final class CustomDataCompound {
+
+    private static final String KEY = "ForgeData";
+
+    @Nullable private NBTTagCompound data;
+    // The compound last read from or written to NBT, it is never modified
+    @Nullable private NBTTagCompound saved;
+    // Set when the live compound was handed out for modification since the last save
+    private boolean accessed;
+
+    @Nullable
+    public NBTTagCompound get() {
+        return this.data;
+    }
+
+    public NBTTagCompound getMutable() {
+        if (this.data == null) {
+            this.data = new NBTTagCompound();
+        } else if (this.data == this.saved) {
+            this.data = (NBTTagCompound) this.saved.copy();
+        }
+
+        this.accessed = true;
+        return this.data;
+    }
+
+    public void read(NBTTagCompound compound) {
+        if (compound.hasKey(KEY)) {
+            this.data = this.saved = compound.getCompoundTag(KEY);
+            this.accessed = false;
+        }
+    }
+
+    public void write(NBTTagCompound compound) {
+        if (this.data == null || this.data.hasNoTags()) {
+            return;
+        }
+
+        if (this.accessed) {
+            this.accessed = false;
+            // Only copy the compound if it was actually changed since the last save
+            if (this.saved == null || !this.saved.equals(this.data)) {
+                this.saved = (NBTTagCompound) this.data.copy();
+            }
+        }
+
+        compound.setTag(KEY, this.saved);
+    }
+
+}
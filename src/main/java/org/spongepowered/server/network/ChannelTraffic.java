@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.network;
+
+import com.google.common.base.Objects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Inbound traffic is recorded on the netty threads, outbound traffic on the main thread
+public final class ChannelTraffic {
+
+    private final LongAdder inboundMessages = new LongAdder();
+    private final LongAdder inboundBytes = new LongAdder();
+    private final LongAdder outboundMessages = new LongAdder();
+    private final LongAdder outboundBytes = new LongAdder();
+
+    void recordInbound(int bytes) {
+        this.inboundMessages.increment();
+        this.inboundBytes.add(bytes);
+    }
+
+    void recordOutbound(int bytes) {
+        this.outboundMessages.increment();
+        this.outboundBytes.add(bytes);
+    }
+
+    public long getInboundMessages() {
+        return this.inboundMessages.sum();
+    }
+
+    public long getInboundBytes() {
+        return this.inboundBytes.sum();
+    }
+
+    public long getOutboundMessages() {
+        return this.outboundMessages.sum();
+    }
+
+    public long getOutboundBytes() {
+        return this.outboundBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("inboundMessages", this.inboundMessages.sum())
+                .add("inboundBytes", this.inboundBytes.sum())
+                .add("outboundMessages", this.outboundMessages.sum())
+                .add("outboundBytes", this.outboundBytes.sum())
+                .toString();
+    }
+
+}
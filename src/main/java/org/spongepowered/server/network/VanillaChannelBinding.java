@@ -26,14 +26,18 @@
 
 import static com.google.common.base.Preconditions.checkState;
 
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.S3FPacketCustomPayload;
 import org.spongepowered.api.network.ChannelRegistrar;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.network.SpongeNetworkManager;
+import org.spongepowered.server.interfaces.IMixinNetHandlerPlayServer;
 
 public abstract class VanillaChannelBinding extends SpongeNetworkManager.AbstractChannelBinding {
 
+    private final ChannelTraffic traffic = new ChannelTraffic();
     private boolean valid = true;
 
     public VanillaChannelBinding(ChannelRegistrar registrar, String channelName, PluginContainer owner) {
@@ -48,6 +52,18 @@ final void invalidate() {
         this.valid = false;
     }
 
+    public ChannelTraffic getTraffic() {
+        return this.traffic;
+    }
+
     public abstract void post(RemoteConnection connection, PacketBuffer payload);
 
+    protected final void sendPayload(EntityPlayerMP player, PacketBuffer payload) {
+        ((VanillaChannelRegistrar) getRegistrar()).recordOutbound(this, (IMixinNetHandlerPlayServer) player.playerNetServerHandler,
+                payload.readableBytes());
+
+        // The payload may be shared between multiple players, so each packet needs its own reader index
+        player.playerNetServerHandler.sendPacket(new S3FPacketCustomPayload(getName(), new PacketBuffer(payload.duplicate())));
+    }
+
 }
@@ -25,11 +25,17 @@
 package org.spongepowered.server.network;
 
 import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.server.launch.VanillaCommandLine.CHANNEL_RATE_BURST;
+import static org.spongepowered.server.launch.VanillaCommandLine.CHANNEL_RATE_KICK;
+import static org.spongepowered.server.launch.VanillaCommandLine.CHANNEL_RATE_LIMIT;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Singleton;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import joptsimple.OptionSet;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.client.C17PacketCustomPayload;
@@ -41,12 +47,20 @@
 import org.spongepowered.api.network.ChannelRegistrationException;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.network.SpongeNetworkManager;
+import org.spongepowered.server.interfaces.IMixinNetHandlerPlayServer;
+import org.spongepowered.server.launch.VanillaCommandLine;
 
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 @Singleton
 public class VanillaChannelRegistrar extends SpongeNetworkManager {
@@ -61,6 +75,27 @@ public class VanillaChannelRegistrar extends SpongeNetworkManager {
 
     private final Map<String, VanillaChannelBinding> channels = new HashMap<>();
 
+    // Channel changes are collected and sent to the clients once per tick
+    private final Set<String> pendingRegistrations = new LinkedHashSet<>();
+    private final Set<String> pendingUnregistrations = new LinkedHashSet<>();
+
+    // Encoded payload of the full channel list, sent to new connections
+    @Nullable private ByteBuf registerPayload;
+
+    private final Map<PluginContainer, ChannelTraffic> pluginTraffic = new ConcurrentHashMap<>();
+
+    // Inbound messages per second and connection, disabled if not positive
+    private final double rateLimit;
+    private final int rateBurst;
+    private final boolean kickOnRateLimit;
+
+    public VanillaChannelRegistrar() {
+        OptionSet options = VanillaCommandLine.getOptions().get();
+        this.rateLimit = options.has(CHANNEL_RATE_LIMIT) ? options.valueOf(CHANNEL_RATE_LIMIT) : 0;
+        this.rateBurst = Math.max(1, options.valueOf(CHANNEL_RATE_BURST));
+        this.kickOnRateLimit = options.has(CHANNEL_RATE_KICK);
+    }
+
     private static boolean isReservedChannel(String name) {
         return name.startsWith(INTERNAL_PREFIX) || name.equals(REGISTER_CHANNEL) || name.equals(UNREGISTER_CHANNEL);
     }
@@ -79,10 +114,10 @@ private void validateChannel(String name) {
     private void registerChannel(VanillaChannelBinding channel) {
         final String name = channel.getName();
         this.channels.put(name, channel);
+        this.registerPayload = null;
 
-        ServerConfigurationManager manager = MinecraftServer.getServer().getConfigurationManager();
-        if (manager != null) {
-            manager.sendPacketToAllPlayers(getRegPacket(name));
+        if (!this.pendingUnregistrations.remove(name)) {
+            this.pendingRegistrations.add(name);
         }
     }
 
@@ -113,10 +148,10 @@ public void unbindChannel(ChannelBinding channel) {
         VanillaChannelBinding binding = this.channels.remove(name);
         checkState(binding != null, "Channel is already unbound");
         binding.invalidate();
+        this.registerPayload = null;
 
-        ServerConfigurationManager manager = MinecraftServer.getServer().getConfigurationManager();
-        if (manager != null) {
-            manager.sendPacketToAllPlayers(getUnregPacket(name));
+        if (!this.pendingRegistrations.remove(name)) {
+            this.pendingUnregistrations.add(name);
         }
     }
 
@@ -134,18 +169,102 @@ public boolean isChannelAvailable(String name) {
         return !isReservedChannel(name) && !this.channels.containsKey(name);
     }
 
+    public Optional<ChannelTraffic> getChannelTraffic(String name) {
+        VanillaChannelBinding binding = this.channels.get(name);
+        return binding != null ? Optional.of(binding.getTraffic()) : Optional.empty();
+    }
+
+    public Optional<ChannelTraffic> getPluginTraffic(PluginContainer plugin) {
+        return Optional.ofNullable(this.pluginTraffic.get(plugin));
+    }
+
+    private ChannelTraffic getOrCreatePluginTraffic(PluginContainer plugin) {
+        return this.pluginTraffic.computeIfAbsent(plugin, key -> new ChannelTraffic());
+    }
+
+    @Nullable
+    public PayloadRateLimiter createRateLimiter() {
+        return this.rateLimit > 0 ? new PayloadRateLimiter(this.rateLimit, this.rateBurst) : null;
+    }
+
+    public boolean acceptPayload(NetHandlerPlayServer netHandler, C17PacketCustomPayload packet) {
+        final IMixinNetHandlerPlayServer connection = (IMixinNetHandlerPlayServer) netHandler;
+        connection.getChannelTraffic().recordInbound(packet.getBufferData().readableBytes());
+
+        PayloadRateLimiter limiter = connection.getPayloadRateLimiter();
+        if (limiter == null || limiter.tryAcquire()) {
+            return true;
+        }
+
+        // Further payloads are dropped silently while the kick is pending
+        if (this.kickOnRateLimit && netHandler.netManager.isChannelOpen() && connection.markRateLimitKick()) {
+            SpongeImpl.getLogger().warn("Kicking {} for exceeding the plugin channel rate limit", netHandler.playerEntity.getName());
+            // Payloads are handled on the netty thread, kicking waits for the main thread
+            MinecraftServer.getServer().addScheduledTask(() -> {
+                if (netHandler.netManager.isChannelOpen()) {
+                    netHandler.kickPlayerFromServer("Sent too many plugin messages");
+                }
+            });
+        }
+
+        return false;
+    }
+
     public void post(RemoteConnection connection, C17PacketCustomPayload packet) {
         VanillaChannelBinding binding = this.channels.get(packet.getChannelName());
         if (binding != null) {
+            final int size = packet.getBufferData().readableBytes();
+            binding.getTraffic().recordInbound(size);
+            getOrCreatePluginTraffic(binding.getOwner()).recordInbound(size);
+
             binding.post(connection, packet.getBufferData());
         }
     }
 
+    void recordOutbound(VanillaChannelBinding binding, IMixinNetHandlerPlayServer connection, int size) {
+        binding.getTraffic().recordOutbound(size);
+        getOrCreatePluginTraffic(binding.getOwner()).recordOutbound(size);
+        connection.getChannelTraffic().recordOutbound(size);
+    }
+
     public void registerChannels(NetHandlerPlayServer netHandler) {
         // Register our channel list on the client
-        String channels = CHANNEL_JOINER.join(this.channels.keySet());
-        PacketBuffer buffer = new PacketBuffer(Unpooled.wrappedBuffer(channels.getBytes(StandardCharsets.UTF_8)));
-        netHandler.sendPacket(new S3FPacketCustomPayload(REGISTER_CHANNEL, buffer));
+        if (this.registerPayload == null) {
+            this.registerPayload = encodeChannels(this.channels.keySet());
+        }
+
+        // Each packet needs its own reader index, the content is shared
+        netHandler.sendPacket(new S3FPacketCustomPayload(REGISTER_CHANNEL, new PacketBuffer(this.registerPayload.duplicate())));
+    }
+
+    public void sendChannelUpdates() {
+        if (this.pendingRegistrations.isEmpty() && this.pendingUnregistrations.isEmpty()) {
+            return;
+        }
+
+        ServerConfigurationManager manager = MinecraftServer.getServer().getConfigurationManager();
+        if (manager != null) {
+            sendChannelUpdate(manager, UNREGISTER_CHANNEL, this.pendingUnregistrations);
+            sendChannelUpdate(manager, REGISTER_CHANNEL, this.pendingRegistrations);
+        }
+
+        this.pendingRegistrations.clear();
+        this.pendingUnregistrations.clear();
+    }
+
+    private static void sendChannelUpdate(ServerConfigurationManager manager, String channel, Set<String> channels) {
+        if (channels.isEmpty()) {
+            return;
+        }
+
+        final ByteBuf payload = encodeChannels(channels);
+        for (EntityPlayerMP player : manager.getPlayerList()) {
+            player.playerNetServerHandler.sendPacket(new S3FPacketCustomPayload(channel, new PacketBuffer(payload.duplicate())));
+        }
+    }
+
+    private static ByteBuf encodeChannels(Iterable<String> channels) {
+        return Unpooled.wrappedBuffer(CHANNEL_JOINER.join(channels).getBytes(StandardCharsets.UTF_8));
     }
 
 }
@@ -36,7 +36,6 @@
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.network.play.server.S3FPacketCustomPayload;
 import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.entity.living.player.Player;
@@ -131,7 +130,7 @@ public void post(RemoteConnection connection, PacketBuffer payload) {
         }
     }
 
-    private S3FPacketCustomPayload createPacket(Message message) {
+    private PacketBuffer createPayload(Message message) {
         Class<? extends Message> messageClass = message.getClass();
         IndexedMessageType<?> type = this.messageClasses.get(messageClass);
         checkNotNull(type, "Unknown message type %s of %s", messageClass, message);
@@ -141,7 +140,7 @@ private S3FPacketCustomPayload createPacket(Message message) {
         buffer.markWriterIndex();
         message.writeTo(SpongeNetworkManager.toChannelBuf(buffer));
 
-        return new S3FPacketCustomPayload(getName(), buffer);
+        return buffer;
     }
 
     @Override
@@ -149,7 +148,7 @@ public void sendTo(Player player, Message message) {
         validate();
         final EntityPlayerMP playerMP = (EntityPlayerMP) player;
         if (((IMixinNetHandlerPlayServer) playerMP.playerNetServerHandler).supportsChannel(getName())) {
-            playerMP.playerNetServerHandler.sendPacket(createPacket(message));
+            sendPayload(playerMP, createPayload(message));
         }
     }
 
@@ -163,14 +162,14 @@ public void sendToServer(Message message) {
     public void sendToAll(Message message) {
         validate();
         final String name = getName();
-        S3FPacketCustomPayload packet = null;
+        PacketBuffer buffer = null;
         for (EntityPlayerMP player : MinecraftServer.getServer().getConfigurationManager().getPlayerList()) {
             if (((IMixinNetHandlerPlayServer) player.playerNetServerHandler).supportsChannel(name)) {
-                if (packet == null) {
-                    packet = createPacket(message);
+                if (buffer == null) {
+                    buffer = createPayload(message);
                 }
 
-                player.playerNetServerHandler.sendPacket(packet);
+                sendPayload(player, buffer);
             }
         }
     }
@@ -28,7 +28,6 @@
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.network.play.server.S3FPacketCustomPayload;
 import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.entity.living.player.Player;
@@ -82,10 +81,10 @@ public void post(RemoteConnection connection, PacketBuffer payload) {
         }
     }
 
-    private S3FPacketCustomPayload createPacket(Consumer<ChannelBuf> consumer) {
+    private PacketBuffer createPayload(Consumer<ChannelBuf> consumer) {
         PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
         consumer.accept((ChannelBuf) buffer);
-        return new S3FPacketCustomPayload(getName(), buffer);
+        return buffer;
     }
 
     @Override
@@ -93,7 +92,7 @@ public void sendTo(Player player, Consumer<ChannelBuf> payload) {
         validate();
         final EntityPlayerMP playerMP = (EntityPlayerMP) player;
         if (((IMixinNetHandlerPlayServer) playerMP.playerNetServerHandler).supportsChannel(getName())) {
-            playerMP.playerNetServerHandler.sendPacket(createPacket(payload));
+            sendPayload(playerMP, createPayload(payload));
         }
     }
 
@@ -108,14 +107,14 @@ public void sendToServer(Consumer<ChannelBuf> payload) {
     public void sendToAll(Consumer<ChannelBuf> payload) {
         validate();
         final String name = getName();
-        S3FPacketCustomPayload packet = null;
+        PacketBuffer buffer = null;
         for (EntityPlayerMP player : MinecraftServer.getServer().getConfigurationManager().getPlayerList()) {
             if (((IMixinNetHandlerPlayServer) player.playerNetServerHandler).supportsChannel(name)) {
-                if (packet == null) {
-                    packet = createPacket(payload);
+                if (buffer == null) {
+                    buffer = createPayload(payload);
                 }
 
-                player.playerNetServerHandler.sendPacket(packet);
+                sendPayload(player, buffer);
             }
         }
     }
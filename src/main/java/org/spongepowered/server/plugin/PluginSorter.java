@@ -24,11 +24,16 @@
  */
 package org.spongepowered.server.plugin;
 
+import com.google.common.collect.Iterables;
 import org.spongepowered.common.util.graph.DirectedGraph;
 import org.spongepowered.common.util.graph.TopologicalOrder;
 import org.spongepowered.server.launch.plugin.PluginCandidate;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 final class PluginSorter {
 
@@ -48,4 +53,37 @@ static List<PluginCandidate> sort(Iterable<PluginCandidate> candidates) {
         return TopologicalOrder.createOrderedLoad(graph);
     }
 
+    /**
+     * Collects the plugins that have to be registered before each plugin can
+     * be constructed: its dependencies and dependents that come earlier in the
+     * given load order. Plugins outside of the load order are ignored.
+     */
+    static Map<PluginCandidate, Set<PluginCandidate>> collectPredecessors(List<PluginCandidate> order) {
+        final Map<PluginCandidate, Integer> indices = new HashMap<>();
+        final Map<PluginCandidate, Set<PluginCandidate>> result = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            indices.put(order.get(i), i);
+            result.put(order.get(i), new HashSet<>());
+        }
+
+        for (int i = 0; i < order.size(); i++) {
+            final PluginCandidate candidate = order.get(i);
+            for (PluginCandidate dependency : Iterables.concat(candidate.getDependencies(), candidate.getRequirements())) {
+                Integer index = indices.get(dependency);
+                if (index == null || index == i) {
+                    continue;
+                }
+
+                if (index < i) {
+                    result.get(candidate).add(dependency);
+                } else {
+                    // Dependency sorted after this plugin, it must wait for this plugin instead
+                    result.get(dependency).add(candidate);
+                }
+            }
+        }
+
+        return result;
+    }
+
 }
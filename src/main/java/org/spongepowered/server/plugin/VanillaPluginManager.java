@@ -27,6 +27,7 @@
 import static com.google.common.base.Objects.firstNonNull;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 import net.minecraft.launchwrapper.Launch;
 import org.spongepowered.api.Sponge;
@@ -35,6 +36,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.plugin.meta.PluginMetadata;
 import org.spongepowered.plugin.meta.SpongeExtension;
+import org.spongepowered.server.launch.StartupTrace;
+import org.spongepowered.server.launch.VanillaCommandLine;
 import org.spongepowered.server.launch.plugin.PluginCandidate;
 import org.spongepowered.server.launch.plugin.VanillaLaunchPluginManager;
 
@@ -51,6 +54,13 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 @Singleton
 public class VanillaPluginManager implements PluginManager {
@@ -71,9 +81,7 @@ public void loadPlugins() throws IOException {
         Map<String, PluginCandidate> candidateMap = VanillaLaunchPluginManager.getPlugins();
 
         try {
-            for (PluginCandidate candidate : PluginSorter.sort(checkRequirements(candidateMap))) {
-                loadPlugin(candidate);
-            }
+            loadPlugins(PluginSorter.sort(checkRequirements(candidateMap)));
         } catch (Throwable e) {
             throw PluginReporter.crash(e, candidateMap.values());
         }
@@ -129,28 +137,121 @@ private Set<PluginCandidate> checkRequirements(Map<String, PluginCandidate> cand
         return successfulCandidates;
     }
 
-    private void loadPlugin(PluginCandidate candidate) {
-        final String id = candidate.getId();
+    private void loadPlugins(List<PluginCandidate> candidates) throws InterruptedException {
+        final StartupTrace.Section section = StartupTrace.current();
+        int threads = 0;
+        if (!VanillaCommandLine.getOptions().map(options -> options.has(VanillaCommandLine.NO_PARALLEL_PLUGIN_LOADING)).orElse(false)) {
+            threads = Math.min(candidates.size(), Runtime.getRuntime().availableProcessors());
+        }
+
+        if (threads <= 1) {
+            for (PluginCandidate candidate : candidates) {
+                addToClasspath(candidate);
+                registerPlugin(candidate, () -> constructPlugin(candidate, section));
+            }
+            return;
+        }
+
+        final Set<String> serialPlugins = new HashSet<>(VanillaCommandLine.getOptions()
+                .map(options -> options.valuesOf(VanillaCommandLine.SERIAL_PLUGIN)).orElse(Collections.emptyList()));
+        final Map<PluginCandidate, Set<PluginCandidate>> predecessors = PluginSorter.collectPredecessors(candidates);
+        final Map<PluginCandidate, List<PluginCandidate>> successors = new HashMap<>();
+        for (PluginCandidate candidate : candidates) {
+            for (PluginCandidate predecessor : predecessors.get(candidate)) {
+                successors.computeIfAbsent(predecessor, key -> new ArrayList<>()).add(candidate);
+            }
+        }
+
+        final Map<PluginCandidate, Future<PluginContainer>> results = new HashMap<>();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("Plugin Loader #%d").setDaemon(true).build());
+        final Consumer<PluginCandidate> submit = candidate -> {
+            if (!serialPlugins.contains(candidate.getId())) {
+                results.put(candidate, executor.submit(() -> constructPlugin(candidate, section)));
+            }
+        };
+
+        try {
+            // Add all JARs in load order first, so the classpath doesn't depend on which plugin is constructed first
+            for (PluginCandidate candidate : candidates) {
+                addToClasspath(candidate);
+            }
+
+            for (PluginCandidate candidate : candidates) {
+                if (predecessors.get(candidate).isEmpty()) {
+                    submit.accept(candidate);
+                }
+            }
+
+            // Plugins are constructed ahead once everything they depend on is registered,
+            // registration still happens in load order on the main thread
+            for (PluginCandidate candidate : candidates) {
+                final Future<PluginContainer> result = results.get(candidate);
+                if (result != null) {
+                    registerPlugin(candidate, () -> {
+                        try {
+                            return result.get();
+                        } catch (ExecutionException e) {
+                            throw e.getCause();
+                        }
+                    });
+                } else {
+                    // Wait for all plugins constructed ahead before constructing a plugin that has opted out
+                    for (Future<PluginContainer> pending : results.values()) {
+                        try {
+                            pending.get();
+                        } catch (ExecutionException ignored) {
+                            // Reported when the plugin is registered
+                        }
+                    }
+
+                    registerPlugin(candidate, () -> constructPlugin(candidate, section));
+                }
+
+                for (PluginCandidate successor : successors.getOrDefault(candidate, Collections.emptyList())) {
+                    final Set<PluginCandidate> waiting = predecessors.get(successor);
+                    waiting.remove(candidate);
+                    if (waiting.isEmpty()) {
+                        submit.accept(successor);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
+    private static void addToClasspath(PluginCandidate candidate) {
         if (candidate.getSource().isPresent()) {
             try {
                 // Add JAR to classpath
                 Launch.classLoader.addURL(candidate.getSource().get().toUri().toURL());
             } catch (MalformedURLException e) {
-                throw new RuntimeException("Failed to add plugin '" + id + "' from " + candidate.getDisplaySource() + " to classpath", e);
+                throw new RuntimeException("Failed to add plugin '" + candidate.getId() + "' from " + candidate.getDisplaySource() + " to classpath",
+                        e);
             }
         }
+    }
 
-        final PluginMetadata metadata = candidate.getMetadata();
-        final String name = firstNonNull(metadata.getName(), id);
-        final String version = firstNonNull(metadata.getVersion(), "unknown");
-
-        try {
+    private static PluginContainer constructPlugin(PluginCandidate candidate, @Nullable StartupTrace.Section parent) throws ClassNotFoundException {
+        try (StartupTrace.Section ignored = StartupTrace.start(parent, candidate.getId())) {
+            final PluginMetadata metadata = candidate.getMetadata();
             Class<?> pluginClass = Class.forName(candidate.getPluginClass());
             SpongeExtension ext = metadata.getExtension("sponge");
-            PluginContainer container = new VanillaPluginContainer(id, pluginClass,
+            return new VanillaPluginContainer(candidate.getId(), pluginClass,
                     metadata.getName(), metadata.getVersion(), metadata.getDescription(), metadata.getUrl(), metadata.getAuthors(),
                     ext != null ? ext.getAssetDirectory() : null, candidate.getSource());
+        }
+    }
+
+    private void registerPlugin(PluginCandidate candidate, PluginConstructor constructor) {
+        final PluginMetadata metadata = candidate.getMetadata();
+        final String name = firstNonNull(metadata.getName(), candidate.getId());
+        final String version = firstNonNull(metadata.getVersion(), "unknown");
+
+        try {
+            PluginContainer container = constructor.construct();
 
             registerPlugin(container);
             Sponge.getEventManager().registerListeners(container, container.getInstance().get());
@@ -161,6 +262,13 @@ private void loadPlugin(PluginCandidate candidate) {
         }
     }
 
+    @FunctionalInterface
+    private interface PluginConstructor {
+
+        PluginContainer construct() throws Throwable;
+
+    }
+
     @Override
     public Optional<PluginContainer> fromInstance(Object instance) {
         checkNotNull(instance, "instance");
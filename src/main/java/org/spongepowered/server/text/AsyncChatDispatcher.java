@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.text;
+
+import static org.spongepowered.server.launch.VanillaCommandLine.ASYNC_CHAT;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.server.launch.VanillaCommandLine;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+public final class AsyncChatDispatcher {
+
+    private static final boolean ENABLED = VanillaCommandLine.getOptions().map(options -> options.has(ASYNC_CHAT)).orElse(false);
+
+    // Seconds to wait for queued chat messages when the server stops
+    private static final int SHUTDOWN_TIMEOUT = 5;
+
+    // A single thread keeps the chat messages in order
+    @Nullable private static ExecutorService executor;
+
+    // Set once the server is stopping, the main thread doesn't run scheduled tasks anymore at that point
+    private static volatile boolean stopping;
+    private static final Queue<Runnable> stopTasks = new ConcurrentLinkedQueue<>();
+
+    private AsyncChatDispatcher() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge Chat Thread")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    public static void dispatch(@Nullable Object sender, MessageChannel channel, Supplier<Text> message, ChatType type) {
+        if (stopping || !ChatBroadcast.canBroadcast(channel)) {
+            channel.send(sender, message.get(), type);
+            return;
+        }
+
+        // Message channels usually iterate the player list, so collect the members on the main thread
+        final List<MessageReceiver> members = ImmutableList.copyOf(channel.getMembers());
+        getExecutor().execute(() -> {
+            try {
+                // Other receivers (e.g. the console) are not necessarily thread-safe
+                ChatBroadcast.send(sender, channel, members, message.get(), type, AsyncChatDispatcher::executeOnMainThread);
+            } catch (Throwable e) {
+                SpongeImpl.getLogger().error("Failed to send chat message to {}", channel, e);
+            }
+        });
+    }
+
+    private static void executeOnMainThread(Runnable task) {
+        if (stopping) {
+            stopTasks.add(task);
+        } else {
+            MinecraftServer.getServer().addScheduledTask(task);
+        }
+    }
+
+    public static void shutdown() {
+        final ExecutorService executor = AsyncChatDispatcher.executor;
+        stopping = true;
+        if (executor == null) {
+            return;
+        }
+
+        // Send the chat messages that are still queued before the players are disconnected
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                SpongeImpl.getLogger().warn("Dropped {} chat message(s) that could not be sent before the server stopped",
+                        executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Runnable task;
+        while ((task = stopTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.text;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.play.server.S02PacketChat;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.chat.ChatTypeMessageReceiver;
+import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.SpongeChatType;
+import org.spongepowered.server.interfaces.IMixinS02PacketChat;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sends a message to all members of a {@link MessageChannel}, converting
+ * and serializing each distinct message only once.
+ */
+public final class ChatBroadcast {
+
+    private static final Map<Class<?>, Boolean> defaultSendMethods = new ConcurrentHashMap<>();
+
+    private ChatBroadcast() {
+    }
+
+    public static void send(@Nullable Object sender, MessageChannel channel, Text original, ChatType type) {
+        if (canBroadcast(channel)) {
+            send(sender, channel, channel.getMembers(), original, type, Runnable::run);
+        } else {
+            channel.send(sender, original, type);
+        }
+    }
+
+    // Channels overriding the send methods might depend on them being called
+    static boolean canBroadcast(MessageChannel channel) {
+        return defaultSendMethods.computeIfAbsent(channel.getClass(), ChatBroadcast::hasDefaultSendMethods);
+    }
+
+    private static boolean hasDefaultSendMethods(Class<?> channelClass) {
+        try {
+            return channelClass.getMethod("send", Object.class, Text.class).getDeclaringClass() == MessageChannel.class
+                    && channelClass.getMethod("send", Object.class, Text.class, ChatType.class).getDeclaringClass() == MessageChannel.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    static void send(@Nullable Object sender, MessageChannel channel, Iterable<MessageReceiver> members, Text original, ChatType type,
+            Executor receiverExecutor) {
+        // Channels usually return the original message, so players receiving the same
+        // message instance share one packet
+        final Map<Text, List<EntityPlayerMP>> players = new IdentityHashMap<>();
+        final List<Runnable> others = new ArrayList<>();
+
+        for (MessageReceiver member : members) {
+            final Optional<Text> message = channel.transformMessage(sender, member, original, type);
+            if (!message.isPresent()) {
+                continue;
+            }
+
+            if (member instanceof EntityPlayerMP) {
+                players.computeIfAbsent(message.get(), text -> new ArrayList<>()).add((EntityPlayerMP) member);
+            } else if (member instanceof ChatTypeMessageReceiver) {
+                others.add(() -> ((ChatTypeMessageReceiver) member).sendMessage(type, message.get()));
+            } else {
+                others.add(() -> member.sendMessage(message.get()));
+            }
+        }
+
+        for (Map.Entry<Text, List<EntityPlayerMP>> entry : players.entrySet()) {
+            final List<EntityPlayerMP> receivers = entry.getValue();
+            final S02PacketChat packet = new S02PacketChat(SpongeTexts.toComponent(entry.getKey()), ((SpongeChatType) type).getByteId());
+            if (receivers.size() > 1) {
+                ((IMixinS02PacketChat) packet).serializeComponent();
+            }
+
+            for (EntityPlayerMP player : receivers) {
+                player.playerNetServerHandler.sendPacket(packet);
+            }
+        }
+
+        if (!others.isEmpty()) {
+            receiverExecutor.execute(() -> others.forEach(Runnable::run));
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.world;
+
+import static org.spongepowered.server.launch.VanillaCommandLine.INCREMENTAL_SAVE;
+import static org.spongepowered.server.launch.VanillaCommandLine.SAVE_WINDOW;
+
+import com.google.common.collect.Lists;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.MinecraftException;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.server.interfaces.IMixinChunkProviderServer;
+import org.spongepowered.server.interfaces.IMixinWorldServer;
+import org.spongepowered.server.launch.VanillaCommandLine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves the loaded worlds a few chunks at a time instead of saving all
+ * worlds at once on every autosave.
+ *
+ * <p>Each world is saved in passes of half the save window. A pass goes
+ * through all chunks that were loaded when it started, evenly spread over
+ * its duration, and saves the level data once it is complete. A chunk
+ * modified at any time is therefore saved within one save window.</p>
+ */
+public final class IncrementalSaveScheduler {
+
+    private static final boolean ENABLED = VanillaCommandLine.getOptions().map(options -> options.has(INCREMENTAL_SAVE)).orElse(false);
+    private static final int PASS_TICKS = Math.max(1, VanillaCommandLine.getOptions().map(options -> options.valueOf(SAVE_WINDOW)).orElse(900) / 2);
+
+    private static final Map<Integer, Pass> passes = new HashMap<>();
+
+    private IncrementalSaveScheduler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void tick(int tickCounter) {
+        if (!ENABLED) {
+            return;
+        }
+
+        Integer[] ids = VanillaDimensionManager.getIDs();
+        for (int i = 0; i < ids.length; i++) {
+            WorldServer world = VanillaDimensionManager.getWorldFromDimId(ids[i]);
+            if (world == null || world.disableLevelSaving) {
+                continue;
+            }
+
+            Pass pass = passes.get(ids[i]);
+            if (pass == null || pass.world != world) {
+                // Stagger the passes of the worlds so they don't complete in the same tick
+                pass = new Pass(world, tickCounter - i * PASS_TICKS / ids.length);
+                passes.put(ids[i], pass);
+            }
+
+            if (pass.tick(tickCounter)) {
+                passes.put(ids[i], new Pass(world, tickCounter));
+            }
+        }
+    }
+
+    public static void remove(int id) {
+        passes.remove(id);
+    }
+
+    private static final class Pass {
+
+        final WorldServer world;
+        private final int startTick;
+        private final List<Chunk> chunks;
+        private int index;
+
+        Pass(WorldServer world, int startTick) {
+            this.world = world;
+            this.startTick = startTick;
+            this.chunks = Lists.newArrayList(((IMixinChunkProviderServer) world.theChunkProviderServer).getLoadedChunks());
+        }
+
+        boolean tick(int tickCounter) {
+            final int elapsed = tickCounter - this.startTick + 1;
+            final int target = elapsed >= PASS_TICKS ? this.chunks.size() : (int) ((long) this.chunks.size() * elapsed / PASS_TICKS);
+
+            final ChunkProviderServer provider = this.world.theChunkProviderServer;
+            for (; this.index < target; this.index++) {
+                final Chunk chunk = this.chunks.get(this.index);
+                // Skip chunks unloaded (and saved) since the pass started
+                if (provider.id2ChunkMap.getValueByKey(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition)) == chunk
+                        && chunk.needsSaving(false)) {
+                    ((IMixinChunkProviderServer) provider).saveChunk(chunk);
+                }
+            }
+
+            if (elapsed < PASS_TICKS) {
+                return false;
+            }
+
+            try {
+                ((IMixinWorldServer) this.world).saveLevelData();
+            } catch (MinecraftException e) {
+                SpongeImpl.getLogger().warn("Failed to save level data of world {}", this.world.getWorldInfo().getWorldName(), e);
+            }
+
+            // Queue chunks no player is watching for unloading, like a full world save does
+            final PlayerManager playerManager = this.world.getPlayerManager();
+            for (Chunk chunk : Lists.newArrayList(((IMixinChunkProviderServer) provider).getLoadedChunks())) {
+                if (!playerManager.hasPlayerInstance(chunk.xPosition, chunk.zPosition)) {
+                    provider.dropChunk(chunk.xPosition, chunk.zPosition);
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -26,22 +26,44 @@
 
 import com.google.common.collect.Lists;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.MathHelper;
 import net.minecraft.world.MinecraftException;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.border.EnumBorderStatus;
+import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.storage.WorldInfo;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.server.event.VanillaEvents;
 
+import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.List;
 
 public class VanillaDimensionManager extends DimensionManager {
 
+    private static final int FLAG_CACHED = 1;
+    private static final int FLAG_CAN_RESPAWN = 2;
+    private static final int FLAG_LOAD_SPAWN = 4;
+    private static final int FLAG_KEEP_SPAWN_LOADED = 8;
+    private static final int FLAG_LOADED = 16;
+    private static final int FLAG_SPAWN_BOUNDS = 32;
+
+    // Cached world flags, indexed by dimension id + 1 to include the nether
+    private static int[] worldFlags = new int[8];
+    // Spawn chunk area (min x, max x, min z, max z) of the loaded worlds, 4 entries per world flags index
+    private static int[] spawnChunkBounds = new int[worldFlags.length * 4];
+    // Properties of the loaded worlds, used to notice changes of the keep spawn loaded setting
+    private static WorldProperties[] worldProperties = new WorldProperties[worldFlags.length];
+
     public static void unloadWorlds(Hashtable<Integer, long[]> worldTickTimes) {
         for (int id : unloadQueue) {
             WorldServer w = worlds.get(id);
@@ -55,10 +77,14 @@ public static void unloadWorlds(Hashtable<Integer, long[]> worldTickTimes) {
                 e.printStackTrace();
             } finally {
                 if (w != null) {
-                    SpongeImpl.postEvent(SpongeEventFactory.createUnloadWorldEvent(Cause.of(NamedCause.source(MinecraftServer.getServer())),
-                            (org.spongepowered.api.world.World) w));
+                    if (VanillaEvents.hasListeners(UnloadWorldEvent.class)) {
+                        SpongeImpl.postEvent(SpongeEventFactory.createUnloadWorldEvent(Cause.of(NamedCause.source(MinecraftServer.getServer())),
+                                (org.spongepowered.api.world.World) w));
+                    }
                     w.flush();
                     setWorld(id, null);
+                    invalidateWorldFlags();
+                    IncrementalSaveScheduler.remove(id);
                 }
             }
         }
@@ -88,8 +114,101 @@ public static Integer[] getIDs(boolean check) {
 
     public static void unloadWorld(int id) {
         final WorldServer world = getWorldFromDimId(id);
-        if (world != null && !((WorldProperties) world.getWorldInfo()).doesKeepSpawnLoaded()) {
+        if (world != null && (getWorldFlags(id) & FLAG_KEEP_SPAWN_LOADED) == 0) {
             unloadQueue.add(id);
         }
     }
+
+    public static boolean isLoadingSpawn(int id) {
+        return (getWorldFlags(id) & FLAG_LOAD_SPAWN) != 0;
+    }
+
+    public static boolean isKeepingSpawnChunks(int id) {
+        final int flags = getWorldFlags(id);
+        return (flags & FLAG_CAN_RESPAWN) != 0 && (flags & FLAG_LOAD_SPAWN) != 0;
+    }
+
+    public static boolean isSpawnChunk(int id, int x, int z) {
+        final int index = id + 1;
+        if (index < 0) {
+            final WorldServer world = getWorldFromDimId(id);
+            return world != null && world.isSpawnChunk(x, z);
+        }
+
+        final int flags = getWorldFlags(id);
+        if ((flags & FLAG_LOADED) == 0) {
+            return false;
+        }
+        if ((flags & FLAG_SPAWN_BOUNDS) == 0) {
+            // The world border is moving, so the spawn area can change without notice
+            final WorldServer world = getWorldFromDimId(id);
+            return world != null && world.isSpawnChunk(x, z);
+        }
+
+        final int i = index * 4;
+        return x >= spawnChunkBounds[i] && x <= spawnChunkBounds[i + 1] && z >= spawnChunkBounds[i + 2] && z <= spawnChunkBounds[i + 3];
+    }
+
+    public static void invalidateWorldFlags() {
+        Arrays.fill(worldFlags, 0);
+        Arrays.fill(worldProperties, null);
+    }
+
+    private static int getWorldFlags(int id) {
+        final int index = id + 1;
+        if (index >= 0 && index < worldFlags.length && worldFlags[index] != 0) {
+            final int flags = worldFlags[index];
+            final WorldProperties properties = worldProperties[index];
+            // The setting can be changed through the world properties at any time, so check it instead of waiting for a notification
+            if (properties == null || properties.doesKeepSpawnLoaded() == ((flags & FLAG_KEEP_SPAWN_LOADED) != 0)) {
+                return flags;
+            }
+        }
+
+        int flags = FLAG_CACHED;
+        final WorldServer world = getWorldFromDimId(id);
+        if (world != null) {
+            flags |= FLAG_LOADED;
+            if (world.provider.canRespawnHere()) {
+                flags |= FLAG_CAN_RESPAWN;
+            }
+            if (((WorldProperties) world.getWorldInfo()).doesKeepSpawnLoaded()) {
+                flags |= FLAG_KEEP_SPAWN_LOADED;
+            }
+        }
+        if (shouldLoadSpawn(id)) {
+            flags |= FLAG_LOAD_SPAWN;
+        }
+
+        if (index >= 0) {
+            if (index >= worldFlags.length) {
+                worldFlags = Arrays.copyOf(worldFlags, Math.max(index + 1, worldFlags.length * 2));
+                spawnChunkBounds = Arrays.copyOf(spawnChunkBounds, worldFlags.length * 4);
+                worldProperties = Arrays.copyOf(worldProperties, worldFlags.length);
+            }
+            worldProperties[index] = world != null ? (WorldProperties) world.getWorldInfo() : null;
+            if (world != null && world.getWorldBorder().getStatus() == EnumBorderStatus.STATIONARY) {
+                // Same inputs as World.getSpawnPoint: the spawn point, or the center of the world border if the spawn is outside of it
+                final WorldInfo info = world.getWorldInfo();
+                final WorldBorder border = world.getWorldBorder();
+                int spawnX = info.getSpawnX();
+                int spawnZ = info.getSpawnZ();
+                if (!border.contains(new BlockPos(spawnX, info.getSpawnY(), spawnZ))) {
+                    spawnX = MathHelper.floor_double(border.getCenterX());
+                    spawnZ = MathHelper.floor_double(border.getCenterZ());
+                }
+
+                // Same area as World.isSpawnChunk: chunks with their center at most 128 blocks away from the spawn point
+                final int i = index * 4;
+                spawnChunkBounds[i] = Math.floorDiv(spawnX - 136 + 15, 16);
+                spawnChunkBounds[i + 1] = Math.floorDiv(spawnX + 120, 16);
+                spawnChunkBounds[i + 2] = Math.floorDiv(spawnZ - 136 + 15, 16);
+                spawnChunkBounds[i + 3] = Math.floorDiv(spawnZ + 120, 16);
+                flags |= FLAG_SPAWN_BOUNDS;
+            }
+            worldFlags[index] = flags;
+        }
+        return flags;
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.world.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nullable;
+
+public final class ChunkOutputBuffer extends ByteArrayOutputStream {
+
+    private static final int INITIAL_SIZE = 8096;
+    private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<ChunkOutputBuffer> buffers = ThreadLocal.withInitial(ChunkOutputBuffer::new);
+
+    private final Deflater deflater = new Deflater();
+    @Nullable private Sink sink;
+
+    private ChunkOutputBuffer() {
+        super(INITIAL_SIZE);
+    }
+
+    public static DataOutputStream open(Sink sink) {
+        final ChunkOutputBuffer buffer = buffers.get();
+        // Discard anything left behind by a stream that was never closed
+        buffer.count = 0;
+        buffer.deflater.reset();
+
+        buffer.sink = sink;
+        // Buffer before the deflater, otherwise every primitive written by the NBT tags results in a separate deflate call
+        return new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(buffer, buffer.deflater, STREAM_BUFFER_SIZE),
+                STREAM_BUFFER_SIZE));
+    }
+
+    @Override
+    public void close() {
+        final Sink sink = this.sink;
+        if (sink == null) {
+            return;
+        }
+
+        this.sink = null;
+        try {
+            sink.write(this.buf, this.count);
+        } finally {
+            this.count = 0;
+            if (this.buf.length > MAX_RETAINED_SIZE) {
+                this.buf = new byte[INITIAL_SIZE];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Sink {
+
+        void write(byte[] data, int length);
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.server.launch.AtomicFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class PlayerDataWriter {
+
+    // Latest data for each player file that has not been written yet
+    private static final ConcurrentMap<File, NBTTagCompound> pending = new ConcurrentHashMap<>();
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge Player Data Thread")
+            .setDaemon(true)
+            .build());
+
+    private PlayerDataWriter() {
+    }
+
+    public static void write(File file, NBTTagCompound data) {
+        // Only schedule a write if there isn't one pending for the same file already, it will pick up the new data
+        if (pending.put(file, data) == null) {
+            executor.execute(() -> writePending(file));
+        }
+    }
+
+    // Call this before reading a player data file directly, so a write that is still pending isn't missed
+    public static void flush(File file) {
+        if (pending.containsKey(file)) {
+            awaitPending();
+        }
+    }
+
+    public static void awaitPending() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            SpongeImpl.getLogger().error("Failed to wait for pending player data writes", e);
+        }
+    }
+
+    private static void writePending(File file) {
+        NBTTagCompound data;
+        do {
+            data = pending.get(file);
+            try {
+                write(file.toPath(), data);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().warn("Failed to save player data to {}", file, e);
+            }
+        } while (!pending.remove(file, data));
+    }
+
+    private static void write(Path path, NBTTagCompound data) throws IOException {
+        AtomicFiles.write(path, out -> CompressedStreamTools.writeCompressed(data, out));
+    }
+
+}
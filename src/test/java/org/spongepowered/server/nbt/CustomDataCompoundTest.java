@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.server.nbt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CustomDataCompoundTest {
+
+    private int copies;
+    private CustomDataCompound data;
+
+    @Before
+    public void setUp() {
+        this.copies = 0;
+        this.data = new CustomDataCompound();
+
+        NBTTagCompound custom = new CountingCompound();
+        custom.setInteger("value", 1);
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("ForgeData", custom);
+        this.data.read(compound);
+    }
+
+    @Test
+    public void testReadOnlyAccessDoesNotCreate() {
+        CustomDataCompound empty = new CustomDataCompound();
+        assertNull(empty.get());
+
+        NBTTagCompound compound = new NBTTagCompound();
+        empty.write(compound);
+        assertFalse(compound.hasKey("ForgeData"));
+    }
+
+    @Test
+    public void testSaveWithoutAccessDoesNotCopy() {
+        assertEquals(1, this.data.get().getInteger("value"));
+        for (int i = 0; i < 10; i++) {
+            this.data.write(new NBTTagCompound());
+        }
+        assertEquals(0, this.copies);
+    }
+
+    @Test
+    public void testUnchangedDataIsCopiedOnce() {
+        // Modifiable access after a load copies the loaded compound once
+        for (int i = 0; i < 10; i++) {
+            this.data.getMutable();
+            this.data.write(new NBTTagCompound());
+        }
+        assertEquals(1, this.copies);
+    }
+
+    @Test
+    public void testChangedDataIsCopiedOncePerSave() {
+        NBTTagCompound first = new NBTTagCompound();
+        this.data.getMutable().setInteger("value", 2);
+        this.data.write(first);
+
+        NBTTagCompound second = new NBTTagCompound();
+        this.data.getMutable().setInteger("value", 3);
+        this.data.write(second);
+
+        assertEquals(3, this.copies);
+        assertEquals(2, first.getCompoundTag("ForgeData").getInteger("value"));
+        assertEquals(3, second.getCompoundTag("ForgeData").getInteger("value"));
+    }
+
+    @Test
+    public void testSavedCompoundIsShared() {
+        NBTTagCompound first = new NBTTagCompound();
+        this.data.write(first);
+        NBTTagCompound second = new NBTTagCompound();
+        this.data.write(second);
+        assertSame(first.getCompoundTag("ForgeData"), second.getCompoundTag("ForgeData"));
+    }
+
+    private final class CountingCompound extends NBTTagCompound {
+
+        @Override
+        public NBTBase copy() {
+            CustomDataCompoundTest.this.copies++;
+            NBTTagCompound copy = new CountingCompound();
+            for (String key : this.getKeySet()) {
+                copy.setTag(key, this.getTag(key).copy());
+            }
+            return copy;
+        }
+
+    }
+
+}